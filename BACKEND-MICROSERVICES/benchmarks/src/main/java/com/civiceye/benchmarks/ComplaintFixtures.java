@@ -0,0 +1,106 @@
+package com.civiceye.benchmarks;
+
+import com.civiceye.complaint.dto.ComplaintSummary;
+import com.civiceye.complaint.entity.Complaint;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Complaint Fixtures
+ * Deterministic, realistic-looking complaints for the benchmarks.
+ * Locations are spread over a ~20 km square so nearby and duplicate lookups hit a few cells.
+ */
+public final class ComplaintFixtures {
+
+    public static final String[] CATEGORIES = {
+            "ROAD_DAMAGE", "POTHOLE", "STREETLIGHT", "GARBAGE", "WATER_SUPPLY", "DRAINAGE", "NOISE", "PARKING"
+    };
+
+    public static final double BASE_LATITUDE = 12.90;
+    public static final double BASE_LONGITUDE = 77.50;
+    public static final double SPAN_DEGREES = 0.2;
+
+    private static final String[] SUBJECTS = {
+            "Pothole", "Broken streetlight", "Overflowing garbage bin", "Water leak", "Blocked drain",
+            "Damaged footpath", "Fallen tree", "Illegal parking", "Loud construction", "Open manhole"
+    };
+
+    private static final String[] PLACES = {
+            "near the bus stop", "outside the school", "on the main road", "at the market junction",
+            "behind the hospital", "next to the park", "in front of the temple", "by the railway crossing"
+    };
+
+    private static final String[] DETAILS = {
+            "It has been like this for more than a week and is getting worse every day.",
+            "Vehicles are swerving to avoid it and there was almost an accident yesterday.",
+            "Residents have complained several times but nobody has come to look at it.",
+            "It is especially dangerous at night because the area is not well lit.",
+            "Children walk past here on their way to school every morning."
+    };
+
+    private static final Complaint.ComplaintStatus[] STATUSES = Complaint.ComplaintStatus.values();
+
+    private final Random random;
+
+    public ComplaintFixtures(long seed) {
+        this.random = new Random(seed);
+    }
+
+    /**
+     * A complaint as submitted by a client: no ID, version or timestamps
+     */
+    public Complaint newComplaint(long userId) {
+        Complaint complaint = new Complaint();
+        String subject = SUBJECTS[random.nextInt(SUBJECTS.length)];
+        String place = PLACES[random.nextInt(PLACES.length)];
+        complaint.setUserId(userId);
+        complaint.setTitle(subject + " " + place);
+        complaint.setDescription(subject + " " + place + ". " + DETAILS[random.nextInt(DETAILS.length)]
+                + " " + DETAILS[random.nextInt(DETAILS.length)]);
+        complaint.setCategory(CATEGORIES[random.nextInt(CATEGORIES.length)]);
+        complaint.setLatitude(BASE_LATITUDE + random.nextDouble() * SPAN_DEGREES);
+        complaint.setLongitude(BASE_LONGITUDE + random.nextDouble() * SPAN_DEGREES);
+        complaint.setAddress(random.nextInt(400) + ", Ward " + (random.nextInt(198) + 1) + ", Bengaluru");
+        return complaint;
+    }
+
+    /**
+     * A complaint as read from the database
+     */
+    public Complaint storedComplaint(long id, long userId, LocalDateTime createdAt) {
+        Complaint complaint = newComplaint(userId);
+        complaint.setId(id);
+        complaint.setStatus(STATUSES[random.nextInt(STATUSES.length)]);
+        complaint.setReportCount(1 + random.nextInt(5));
+        complaint.setVersion((long) random.nextInt(10));
+        complaint.setCreatedAt(createdAt);
+        complaint.setUpdatedAt(createdAt.plusHours(random.nextInt(72)));
+        return complaint;
+    }
+
+    /**
+     * Stored complaints, newest first, one minute apart up to now (so date-window queries match)
+     */
+    public List<Complaint> storedComplaints(int count, int users) {
+        LocalDateTime newest = LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES);
+        List<Complaint> complaints = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            complaints.add(storedComplaint(count - i, 1 + random.nextInt(users), newest.minusMinutes(i)));
+        }
+        return complaints;
+    }
+
+    public static ComplaintSummary summaryOf(Complaint complaint) {
+        return new ComplaintSummary(complaint.getId(), complaint.getUserId(), complaint.getTitle(),
+                complaint.getCategory(), complaint.getStatus(), complaint.getAddress(), complaint.getReportCount(),
+                complaint.getCreatedAt(), complaint.getUpdatedAt());
+    }
+
+    public Random random() {
+        return random;
+    }
+}
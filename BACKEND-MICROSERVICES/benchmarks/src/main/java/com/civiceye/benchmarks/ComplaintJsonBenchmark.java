@@ -0,0 +1,89 @@
+package com.civiceye.benchmarks;
+
+import com.civiceye.complaint.dto.ComplaintCursor;
+import com.civiceye.complaint.dto.ComplaintSummary;
+import com.civiceye.complaint.dto.CursorPage;
+import com.civiceye.complaint.entity.Complaint;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Complaint JSON Benchmark
+ * Jackson (de)serialization of single complaints and list pages, with the
+ * ObjectMapper configured the way Spring Boot configures it for the controllers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ComplaintJsonBenchmark {
+
+    @Param({"20", "100"})
+    private int pageSize;
+
+    private ObjectWriter complaintWriter;
+    private ObjectReader complaintReader;
+    private ObjectWriter pageWriter;
+
+    private Complaint complaint;
+    private byte[] complaintJson;
+    private byte[] requestJson;
+    private CursorPage<Complaint> page;
+    private CursorPage<ComplaintSummary> summaryPage;
+
+    @Setup
+    public void setUp() throws Exception {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        complaintWriter = objectMapper.writerFor(Complaint.class);
+        complaintReader = objectMapper.readerFor(Complaint.class);
+        pageWriter = objectMapper.writer();
+
+        ComplaintFixtures fixtures = new ComplaintFixtures(42);
+        List<Complaint> complaints = fixtures.storedComplaints(pageSize, 50);
+        complaint = complaints.get(0);
+        complaintJson = complaintWriter.writeValueAsBytes(complaint);
+        requestJson = complaintWriter.writeValueAsBytes(fixtures.newComplaint(1L));
+
+        String nextCursor = ComplaintCursor.of(complaints.get(complaints.size() - 1)).encode();
+        String next = "http://localhost:8082/api/complaints?cursor=" + nextCursor;
+        page = new CursorPage<>(complaints, complaints.size(), nextCursor, next);
+        summaryPage = new CursorPage<>(complaints.stream().map(ComplaintFixtures::summaryOf).toList(),
+                complaints.size(), nextCursor, next);
+    }
+
+    @Benchmark
+    public byte[] serializeComplaint() throws Exception {
+        return complaintWriter.writeValueAsBytes(complaint);
+    }
+
+    @Benchmark
+    public Complaint deserializeComplaint() throws Exception {
+        return complaintReader.readValue(complaintJson);
+    }
+
+    @Benchmark
+    public Complaint deserializeCreateRequest() throws Exception {
+        return complaintReader.readValue(requestJson);
+    }
+
+    @Benchmark
+    public byte[] serializePage() throws Exception {
+        return pageWriter.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] serializeSummaryPage() throws Exception {
+        return pageWriter.writeValueAsBytes(summaryPage);
+    }
+}
@@ -0,0 +1,157 @@
+package com.civiceye.benchmarks;
+
+import com.civiceye.benchmarks.support.InMemoryComplaintStore;
+import com.civiceye.benchmarks.support.ServiceBenchmarkConfig;
+import com.civiceye.complaint.dto.ComplaintCursor;
+import com.civiceye.complaint.dto.ComplaintFilter;
+import com.civiceye.complaint.dto.DuplicatePolicy;
+import com.civiceye.complaint.entity.Complaint;
+import com.civiceye.complaint.exception.DuplicateComplaintException;
+import com.civiceye.complaint.service.ComplaintService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Complaint Service Benchmark
+ * ComplaintServiceImpl methods, through their transactional proxy, against an
+ * in-memory repository and a stubbed User Service. The in-memory indexes are
+ * loaded from the store at startup and kept up to date after each commit.
+ *
+ * Writes grow the store, so the context is rebuilt for every iteration.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ComplaintServiceBenchmark {
+
+    private static final int USERS = 500;
+    private static final int PAGE_SIZE = 20;
+    private static final int HEATMAP_ZOOM = 12;
+
+    @Param({"10000"})
+    private int complaints;
+
+    private AnnotationConfigApplicationContext context;
+    private ComplaintService complaintService;
+    private ComplaintFixtures fixtures;
+
+    private long[] ids;
+    private int position;
+    private String middleCursor;
+    private ComplaintFilter statusAndCategory;
+    private int heatmapX;
+    private int heatmapY;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        fixtures = new ComplaintFixtures(42);
+        List<Complaint> stored = fixtures.storedComplaints(complaints, USERS);
+        ids = stored.stream().mapToLong(Complaint::getId).toArray();
+        position = 0;
+        middleCursor = ComplaintCursor.of(stored.get(stored.size() / 2)).encode();
+
+        statusAndCategory = new ComplaintFilter();
+        statusAndCategory.setStatus(Complaint.ComplaintStatus.PENDING);
+        statusAndCategory.setCategory("POTHOLE");
+
+        // Web Mercator tile over the middle of the fixture area
+        double latitude = Math.toRadians(ComplaintFixtures.BASE_LATITUDE + ComplaintFixtures.SPAN_DEGREES / 2);
+        double longitude = ComplaintFixtures.BASE_LONGITUDE + ComplaintFixtures.SPAN_DEGREES / 2;
+        int tiles = 1 << HEATMAP_ZOOM;
+        heatmapX = (int) ((longitude + 180) / 360 * tiles);
+        heatmapY = (int) ((1 - Math.log(Math.tan(latitude) + 1 / Math.cos(latitude)) / Math.PI) / 2 * tiles);
+
+        context = new AnnotationConfigApplicationContext();
+        // Send user lookups at once; the batching window would otherwise dominate cold createComplaint calls
+        context.getEnvironment().getPropertySources().addFirst(
+                new MapPropertySource("benchmark", Map.of("complaint.user-batch.window-ms", "0")));
+        context.getBeanFactory().registerSingleton("complaintStore", new InMemoryComplaintStore(stored));
+        context.register(ServiceBenchmarkConfig.class);
+        context.refresh();
+        complaintService = context.getBean(ComplaintService.class);
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Object getComplaintById() {
+        return complaintService.getComplaintById(nextId());
+    }
+
+    @Benchmark
+    public Object getAllComplaintsFirstPage() {
+        return complaintService.getAllComplaints(null, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public Object getAllComplaintsMiddlePage() {
+        return complaintService.getAllComplaints(middleCursor, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public Object getComplaintSummariesByUserId() {
+        return complaintService.getComplaintSummariesByUserId(1 + nextId() % USERS, null, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public Object findComplaintsByStatusAndCategory() {
+        return complaintService.findComplaints(statusAndCategory, null, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public Object createComplaint() {
+        try {
+            return complaintService.createComplaint(fixtures.newComplaint(1 + nextId() % USERS), DuplicatePolicy.REJECT);
+        } catch (DuplicateComplaintException e) {
+            // The duplicate check is part of the path being measured
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object updateComplaintStatus() {
+        Complaint.ComplaintStatus[] statuses = Complaint.ComplaintStatus.values();
+        return complaintService.updateComplaintStatus(nextId(), statuses[position % statuses.length]);
+    }
+
+    @Benchmark
+    public Object getNearbyComplaints() {
+        return complaintService.getNearbyComplaints(ComplaintFixtures.BASE_LATITUDE + ComplaintFixtures.SPAN_DEGREES / 2,
+                ComplaintFixtures.BASE_LONGITUDE + ComplaintFixtures.SPAN_DEGREES / 2, 1000, null, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public Object searchComplaints() {
+        return complaintService.searchComplaints("pothole near the school", null, null, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public Object getHeatmapTile() {
+        return complaintService.getHeatmapTile(HEATMAP_ZOOM, heatmapX, heatmapY, null, null);
+    }
+
+    @Benchmark
+    public Object getStatistics() {
+        return complaintService.getStatistics(30);
+    }
+
+    /**
+     * Cycle through the stored complaints so reads do not hit one hot entry
+     */
+    private long nextId() {
+        long id = ids[position];
+        position = (position + 1) % ids.length;
+        return id;
+    }
+}
@@ -0,0 +1,58 @@
+package com.civiceye.benchmarks;
+
+import com.civiceye.complaint.entity.Complaint;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Complaint Validation Benchmark
+ * Bean validation of a Complaint request body, as @Valid does in the controller
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ComplaintValidationBenchmark {
+
+    private ValidatorFactory validatorFactory;
+    private Validator validator;
+    private Complaint valid;
+    private Complaint invalid;
+
+    @Setup
+    public void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+
+        ComplaintFixtures fixtures = new ComplaintFixtures(42);
+        valid = fixtures.newComplaint(1L);
+        invalid = fixtures.newComplaint(1L);
+        invalid.setUserId(null);
+        invalid.setTitle("Hole");
+        invalid.setDescription("");
+    }
+
+    @TearDown
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<Complaint>> validateValid() {
+        return validator.validate(valid);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<Complaint>> validateInvalid() {
+        // Builds violation messages through message interpolation
+        return validator.validate(invalid);
+    }
+}
@@ -0,0 +1,240 @@
+package com.civiceye.benchmarks.support;
+
+import com.civiceye.benchmarks.ComplaintFixtures;
+import com.civiceye.complaint.dto.ComplaintFilter;
+import com.civiceye.complaint.entity.Complaint;
+import com.civiceye.complaint.entity.NotificationOutbox;
+import com.civiceye.complaint.repository.ArchivedComplaintRepository;
+import com.civiceye.complaint.repository.ComplaintRepository;
+import com.civiceye.complaint.repository.NotificationOutboxRepository;
+import org.springframework.data.domain.Pageable;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * In-Memory Complaint Store
+ * Stands in for MySQL behind the complaint-service repositories so the service
+ * benchmarks measure service code, not the database.
+ *
+ * Only the repository methods the service and indexer call are implemented; the
+ * others throw. Entities are copied in and out, like a persistence context would
+ * detach them, and version/timestamps are maintained the way Hibernate does.
+ */
+public class InMemoryComplaintStore {
+
+    private final Map<Long, Complaint> byId = new ConcurrentHashMap<>();
+    private final NavigableMap<Position, Complaint> newestFirst = new ConcurrentSkipListMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicLong notifications = new AtomicLong();
+
+    public InMemoryComplaintStore(Collection<Complaint> complaints) {
+        for (Complaint complaint : complaints) {
+            put(copy(complaint));
+            sequence.accumulateAndGet(complaint.getId(), Math::max);
+        }
+    }
+
+    public int size() {
+        return byId.size();
+    }
+
+    /**
+     * Notifications queued in the outbox so far
+     */
+    public long notifications() {
+        return notifications.get();
+    }
+
+    public ComplaintRepository complaintRepository() {
+        return proxy(ComplaintRepository.class, (method, args) -> switch (method.getName()) {
+            case "save", "saveAndFlush" -> save((Complaint) args[0]);
+            case "findById" -> findById((Long) args[0]);
+            case "findAllById", "lockAllById" -> findAllById((Iterable<?>) args[0]);
+            case "delete" -> delete((Complaint) args[0]);
+            case "findPage" -> page((LocalDateTime) args[0], (Long) args[1], pageSize(args[2]), complaint -> true);
+            case "findPageByUserId" -> page((LocalDateTime) args[1], (Long) args[2], pageSize(args[3]),
+                    complaint -> complaint.getUserId().equals(args[0]));
+            case "findSummaryPageByUserId" -> summaries(page((LocalDateTime) args[1], (Long) args[2], pageSize(args[3]),
+                    complaint -> complaint.getUserId().equals(args[0])));
+            case "findPageMatching" -> page((LocalDateTime) args[1], (Long) args[2], (Integer) args[3],
+                    complaint -> matches((ComplaintFilter) args[0], complaint));
+            case "findSummaryPageMatching" -> summaries(page((LocalDateTime) args[1], (Long) args[2], (Integer) args[3],
+                    complaint -> matches((ComplaintFilter) args[0], complaint)));
+            case "findArchivedPageMatching", "findArchivedSummaryPageMatching" -> List.of();
+            case "incrementReportCount" -> update((Long) args[0], complaint -> true,
+                    complaint -> complaint.setReportCount(complaint.getReportCount() + 1));
+            case "transitionStatus" -> update((Long) args[0], complaint -> complaint.getStatus() == args[1],
+                    complaint -> {
+                        complaint.setStatus((Complaint.ComplaintStatus) args[2]);
+                        complaint.setUpdatedAt((LocalDateTime) args[3]);
+                    });
+            case "updateStatusByIdIn" -> {
+                int updated = 0;
+                for (Object id : (Collection<?>) args[0]) {
+                    updated += update((Long) id, complaint -> true, complaint -> {
+                        complaint.setStatus((Complaint.ComplaintStatus) args[1]);
+                        complaint.setUpdatedAt((LocalDateTime) args[2]);
+                    });
+                }
+                yield updated;
+            }
+            default -> throw new UnsupportedOperationException("ComplaintRepository." + method.getName());
+        });
+    }
+
+    public ArchivedComplaintRepository archivedComplaintRepository() {
+        return proxy(ArchivedComplaintRepository.class, (method, args) -> switch (method.getName()) {
+            case "findById" -> Optional.empty();
+            case "findPage" -> List.of();
+            default -> throw new UnsupportedOperationException("ArchivedComplaintRepository." + method.getName());
+        });
+    }
+
+    public NotificationOutboxRepository notificationOutboxRepository() {
+        return proxy(NotificationOutboxRepository.class, (method, args) -> switch (method.getName()) {
+            case "save" -> {
+                notifications.incrementAndGet();
+                yield args[0];
+            }
+            case "saveAll" -> {
+                List<NotificationOutbox> saved = new ArrayList<>();
+                ((Iterable<?>) args[0]).forEach(entry -> saved.add((NotificationOutbox) entry));
+                notifications.addAndGet(saved.size());
+                yield saved;
+            }
+            default -> throw new UnsupportedOperationException("NotificationOutboxRepository." + method.getName());
+        });
+    }
+
+    private Complaint save(Complaint complaint) {
+        LocalDateTime now = LocalDateTime.now();
+        if (complaint.getId() == null) {
+            complaint.setId(sequence.incrementAndGet());
+            complaint.setCreatedAt(now);
+            complaint.setVersion(0L);
+        } else {
+            complaint.setVersion(complaint.getVersion() == null ? 0L : complaint.getVersion() + 1);
+        }
+        complaint.setUpdatedAt(now);
+        put(copy(complaint));
+        return complaint;
+    }
+
+    private Optional<Complaint> findById(Long id) {
+        return Optional.ofNullable(byId.get(id)).map(InMemoryComplaintStore::copy);
+    }
+
+    private List<Complaint> findAllById(Iterable<?> ids) {
+        List<Complaint> found = new ArrayList<>();
+        for (Object id : ids) {
+            findById((Long) id).ifPresent(found::add);
+        }
+        return found;
+    }
+
+    private Object delete(Complaint complaint) {
+        Complaint removed = byId.remove(complaint.getId());
+        if (removed != null) {
+            newestFirst.remove(Position.of(removed));
+        }
+        return null;
+    }
+
+    private List<Complaint> page(LocalDateTime createdAt, Long id, int limit, Predicate<Complaint> predicate) {
+        // Full scan after the position, like a query the indexes do not cover
+        return newestFirst.tailMap(new Position(createdAt, id), false).values().stream()
+                .filter(predicate)
+                .limit(limit)
+                .map(InMemoryComplaintStore::copy)
+                .toList();
+    }
+
+    private int update(Long id, Predicate<Complaint> condition, Consumer<Complaint> change) {
+        Complaint stored = byId.get(id);
+        if (stored == null || !condition.test(stored)) {
+            return 0;
+        }
+        change.accept(stored);
+        stored.setVersion(stored.getVersion() + 1);
+        return 1;
+    }
+
+    private void put(Complaint complaint) {
+        byId.put(complaint.getId(), complaint);
+        newestFirst.put(Position.of(complaint), complaint);
+    }
+
+    private static boolean matches(ComplaintFilter filter, Complaint complaint) {
+        return (filter.getStatus() == null || filter.getStatus() == complaint.getStatus())
+                && (filter.getCategory() == null || filter.getCategory().equals(complaint.getCategory()))
+                && (filter.getUserId() == null || filter.getUserId().equals(complaint.getUserId()))
+                && (filter.getFrom() == null || !complaint.getCreatedAt().isBefore(filter.getFrom()))
+                && (filter.getTo() == null || complaint.getCreatedAt().isBefore(filter.getTo()))
+                && (!filter.hasBoundingBox() || complaint.getLatitude() != null && complaint.getLongitude() != null
+                        && complaint.getLatitude() >= filter.getMinLatitude()
+                        && complaint.getLatitude() <= filter.getMaxLatitude()
+                        && complaint.getLongitude() >= filter.getMinLongitude()
+                        && complaint.getLongitude() <= filter.getMaxLongitude());
+    }
+
+    private static List<?> summaries(List<Complaint> complaints) {
+        return complaints.stream().map(ComplaintFixtures::summaryOf).toList();
+    }
+
+    private static int pageSize(Object pageable) {
+        return ((Pageable) pageable).getPageSize();
+    }
+
+    private static Complaint copy(Complaint complaint) {
+        return new Complaint(complaint.getId(), complaint.getUserId(), complaint.getTitle(),
+                complaint.getDescription(), complaint.getCategory(), complaint.getStatus(), complaint.getLatitude(),
+                complaint.getLongitude(), complaint.getAddress(), complaint.getReportCount(), complaint.getVersion(),
+                complaint.getCreatedAt(), complaint.getUpdatedAt());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> repositoryType, BiFunction<Method, Object[], Object> handler) {
+        return (T) Proxy.newProxyInstance(repositoryType.getClassLoader(), new Class<?>[]{repositoryType},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "toString" -> "InMemory" + repositoryType.getSimpleName();
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    default -> handler.apply(method, args);
+                });
+    }
+
+    /**
+     * Keyset position, ordered newest first like the (created_at, id) DESC indexes
+     */
+    private record Position(LocalDateTime createdAt, Long id) implements Comparable<Position> {
+
+        private static final Comparator<Position> NEWEST_FIRST = Comparator
+                .comparing(Position::createdAt)
+                .thenComparing(Position::id)
+                .reversed();
+
+        static Position of(Complaint complaint) {
+            return new Position(complaint.getCreatedAt(), complaint.getId());
+        }
+
+        @Override
+        public int compareTo(Position other) {
+            return NEWEST_FIRST.compare(this, other);
+        }
+    }
+}
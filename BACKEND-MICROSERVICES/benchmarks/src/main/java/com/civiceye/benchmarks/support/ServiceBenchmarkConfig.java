@@ -0,0 +1,77 @@
+package com.civiceye.benchmarks.support;
+
+import com.civiceye.complaint.client.UserBatchClient;
+import com.civiceye.complaint.client.UserClient;
+import com.civiceye.complaint.index.ComplaintDuplicateIndex;
+import com.civiceye.complaint.index.ComplaintHeatmap;
+import com.civiceye.complaint.index.ComplaintIndexer;
+import com.civiceye.complaint.index.ComplaintSpatialIndex;
+import com.civiceye.complaint.index.ComplaintStatistics;
+import com.civiceye.complaint.index.ComplaintTextIndex;
+import com.civiceye.complaint.index.ComplaintVersionRegistry;
+import com.civiceye.complaint.repository.ArchivedComplaintRepository;
+import com.civiceye.complaint.repository.ComplaintRepository;
+import com.civiceye.complaint.repository.NotificationOutboxRepository;
+import com.civiceye.complaint.service.impl.ComplaintServiceImpl;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * Service Benchmark Config
+ * The real ComplaintServiceImpl, indexes and user client, wired by Spring with their
+ * production defaults, over an InMemoryComplaintStore and a stubbed RestTemplate.
+ * The store must be registered as a singleton before the context is refreshed.
+ */
+@Configuration
+@EnableTransactionManagement
+@Import({
+        ComplaintServiceImpl.class,
+        UserClient.class,
+        UserBatchClient.class,
+        ComplaintIndexer.class,
+        ComplaintSpatialIndex.class,
+        ComplaintDuplicateIndex.class,
+        ComplaintTextIndex.class,
+        ComplaintStatistics.class,
+        ComplaintHeatmap.class,
+        ComplaintVersionRegistry.class
+})
+public class ServiceBenchmarkConfig {
+
+    @Bean
+    public ComplaintRepository complaintRepository(InMemoryComplaintStore store) {
+        return store.complaintRepository();
+    }
+
+    @Bean
+    public ArchivedComplaintRepository archivedComplaintRepository(InMemoryComplaintStore store) {
+        return store.archivedComplaintRepository();
+    }
+
+    @Bean
+    public NotificationOutboxRepository notificationOutboxRepository(InMemoryComplaintStore store) {
+        return store.notificationOutboxRepository();
+    }
+
+    // UserBatchClient asks for the detail fan-out's template by name
+    @Bean
+    public RestTemplate dependencyRestTemplate() {
+        return new StubUserRestTemplate();
+    }
+
+    @Bean
+    public MeterRegistry meterRegistry() {
+        return new SimpleMeterRegistry();
+    }
+
+    @Bean
+    public PlatformTransactionManager transactionManager() {
+        return new NoOpTransactionManager();
+    }
+}
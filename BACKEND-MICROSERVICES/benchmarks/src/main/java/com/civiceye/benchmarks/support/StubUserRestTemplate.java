@@ -0,0 +1,37 @@
+package com.civiceye.benchmarks.support;
+
+import com.civiceye.complaint.dto.UserDTO;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Stub User RestTemplate
+ * Answers User Service batch lookups locally: every user ID exists
+ */
+public class StubUserRestTemplate extends RestTemplate {
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> ResponseEntity<T> exchange(String url, HttpMethod method, HttpEntity<?> requestEntity,
+                                          ParameterizedTypeReference<T> responseType, Object... uriVariables) {
+        if (method != HttpMethod.POST || !url.endsWith("/api/internal/users/batch")) {
+            throw new UnsupportedOperationException(method + " " + url);
+        }
+        Map<Long, UserDTO> users = new HashMap<>();
+        for (Long userId : (Collection<Long>) requestEntity.getBody()) {
+            users.put(userId, user(userId));
+        }
+        return ResponseEntity.ok((T) users);
+    }
+
+    private static UserDTO user(long userId) {
+        return new UserDTO(userId, "user" + userId, "user" + userId + "@example.com", "9000000000", "CITIZEN");
+    }
+}
@@ -0,0 +1,110 @@
+package com.civiceye.complaint.archive;
+
+import com.civiceye.complaint.entity.Complaint;
+import com.civiceye.complaint.event.ComplaintChangedEvent;
+import com.civiceye.complaint.event.ComplaintSnapshot;
+import com.civiceye.complaint.repository.ComplaintRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Complaint Archiver
+ * Moves closed complaints (RESOLVED or REJECTED) that have not changed for a
+ * configurable number of days from the complaints table to complaints_archive,
+ * keeping the hot table and its indexes small.
+ * Each chunk is copied and deleted in its own transaction. Rows are locked with
+ * SKIP LOCKED, so several complaint-service instances can archive side by side.
+ */
+@Component
+@Slf4j
+public class ComplaintArchiver {
+
+    private static final Set<Complaint.ComplaintStatus> CLOSED_STATUSES =
+            EnumSet.of(Complaint.ComplaintStatus.RESOLVED, Complaint.ComplaintStatus.REJECTED);
+
+    private final ComplaintRepository complaintRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Counter archived;
+
+    @Value("${complaint.archive.enabled:true}")
+    private boolean enabled;
+
+    @Value("${complaint.archive.closed-age-days:90}")
+    private int closedAgeDays;
+
+    @Value("${complaint.archive.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${complaint.archive.max-chunks-per-run:200}")
+    private int maxChunksPerRun;
+
+    public ComplaintArchiver(ComplaintRepository complaintRepository,
+                             TransactionTemplate transactionTemplate,
+                             ApplicationEventPublisher eventPublisher,
+                             MeterRegistry meterRegistry) {
+        this.complaintRepository = complaintRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.archived = Counter.builder("complaint.archive.archived")
+                .description("Complaints moved to the archive table")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(initialDelayString = "${complaint.archive.initial-delay-ms:60000}",
+               fixedDelayString = "${complaint.archive.interval-ms:3600000}")
+    public void archive() {
+        if (!enabled) {
+            return;
+        }
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(closedAgeDays);
+        long total = 0;
+        try {
+            for (int chunk = 0; chunk < maxChunksPerRun; chunk++) {
+                Integer moved = transactionTemplate.execute(status -> archiveChunk(cutoff));
+                total += moved == null ? 0 : moved;
+                if (moved == null || moved < chunkSize) {
+                    break;
+                }
+            }
+        } catch (RuntimeException e) {
+            log.error("Error archiving complaints: {}", e.getMessage());
+        }
+        if (total > 0) {
+            log.info("Archived {} complaints closed before {}", total, cutoff);
+        }
+    }
+
+    /**
+     * Move one chunk; returns the number of complaints moved
+     */
+    private int archiveChunk(LocalDateTime cutoff) {
+        List<Complaint> chunk = complaintRepository.lockArchivable(CLOSED_STATUSES, cutoff, PageRequest.ofSize(chunkSize));
+        if (chunk.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> ids = chunk.stream().map(Complaint::getId).toList();
+        List<ComplaintSnapshot> snapshots = chunk.stream().map(ComplaintSnapshot::of).toList();
+
+        complaintRepository.copyToArchive(ids, LocalDateTime.now());
+        complaintRepository.deleteAllByIdIn(ids);
+
+        // Delivered after commit, like every other complaint change
+        snapshots.forEach(snapshot -> eventPublisher.publishEvent(ComplaintChangedEvent.archived(snapshot)));
+        archived.increment(ids.size());
+        return ids.size();
+    }
+}
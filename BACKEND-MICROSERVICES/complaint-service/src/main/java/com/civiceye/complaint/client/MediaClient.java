@@ -0,0 +1,39 @@
+package com.civiceye.complaint.client;
+
+import com.civiceye.complaint.dto.MediaDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.List;
+
+/**
+ * Media Client
+ * Lookups against Media Service
+ */
+@Component
+@Slf4j
+public class MediaClient {
+
+    private static final String MEDIA_SERVICE_URL = "http://MEDIA-SERVICE/api/media";
+
+    private final RestTemplate restTemplate;
+
+    public MediaClient(@Qualifier("dependencyRestTemplate") RestTemplate restTemplate) {
+        this.restTemplate = restTemplate;
+    }
+
+    /**
+     * Get the media attached to a complaint
+     */
+    public List<MediaDTO> getMediaByComplaintId(Long complaintId) {
+        String url = MEDIA_SERVICE_URL + "/complaint/" + complaintId;
+        log.info("Calling Media Service at: {}", url);
+        List<MediaDTO> media = restTemplate.exchange(url, HttpMethod.GET, null,
+                new ParameterizedTypeReference<List<MediaDTO>>() { }).getBody();
+        return media != null ? media : List.of();
+    }
+}
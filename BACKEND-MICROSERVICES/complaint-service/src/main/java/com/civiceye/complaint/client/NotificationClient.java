@@ -0,0 +1,39 @@
+package com.civiceye.complaint.client;
+
+import com.civiceye.complaint.dto.NotificationDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.List;
+
+/**
+ * Notification Client
+ * Lookups against Notification Service
+ */
+@Component
+@Slf4j
+public class NotificationClient {
+
+    private static final String NOTIFICATION_SERVICE_URL = "http://NOTIFICATION-SERVICE/api/notifications";
+
+    private final RestTemplate restTemplate;
+
+    public NotificationClient(@Qualifier("dependencyRestTemplate") RestTemplate restTemplate) {
+        this.restTemplate = restTemplate;
+    }
+
+    /**
+     * Get the notifications sent about a complaint, newest first
+     */
+    public List<NotificationDTO> getNotificationsByComplaintId(Long complaintId) {
+        String url = NOTIFICATION_SERVICE_URL + "/complaint/" + complaintId;
+        log.info("Calling Notification Service at: {}", url);
+        List<NotificationDTO> notifications = restTemplate.exchange(url, HttpMethod.GET, null,
+                new ParameterizedTypeReference<List<NotificationDTO>>() { }).getBody();
+        return notifications != null ? notifications : List.of();
+    }
+}
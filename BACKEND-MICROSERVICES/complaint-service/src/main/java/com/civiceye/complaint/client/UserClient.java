@@ -0,0 +1,98 @@
+package com.civiceye.complaint.client;
+
+import com.civiceye.complaint.dto.UserDTO;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * User Client
+ * Cached lookups against User Service.
+ *
+ * Found users are kept for the positive TTL, unknown IDs for the shorter negative TTL.
+ * Misses are loaded through UserBatchClient, so concurrent lookups of uncached IDs
+ * share one batch call. Remote errors are not cached. User Service evicts entries
+ * through invalidate().
+ */
+@Component
+@Slf4j
+public class UserClient {
+
+    private final UserBatchClient userBatchClient;
+    private final LoadingCache<Long, Optional<UserDTO>> cache;
+
+    public UserClient(UserBatchClient userBatchClient,
+                      MeterRegistry meterRegistry,
+                      @Value("${complaint.user-cache.maximum-size:10000}") long maximumSize,
+                      @Value("${complaint.user-cache.ttl-seconds:300}") long ttlSeconds,
+                      @Value("${complaint.user-cache.negative-ttl-seconds:30}") long negativeTtlSeconds) {
+        this.userBatchClient = userBatchClient;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new FoundOrMissingExpiry(Duration.ofSeconds(ttlSeconds), Duration.ofSeconds(negativeTtlSeconds)))
+                .recordStats()
+                .build(userBatchClient::getUser);
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "complaint.users");
+    }
+
+    /**
+     * Get a user by ID; empty if User Service does not know it
+     */
+    public Optional<UserDTO> getUser(Long userId) {
+        return cache.get(userId);
+    }
+
+    /**
+     * Get many users by ID, keyed by ID; each value is empty if User Service does not know it.
+     * Uncached IDs are resolved together through UserBatchClient.getUsers.
+     */
+    public Map<Long, Optional<UserDTO>> getUsers(Collection<Long> userIds) {
+        return cache.getAll(userIds, missing -> {
+            Map<Long, UserDTO> found = userBatchClient.getUsers(List.copyOf(missing));
+            Map<Long, Optional<UserDTO>> loaded = new HashMap<>();
+            missing.forEach(userId -> loaded.put(userId, Optional.ofNullable(found.get(userId))));
+            return loaded;
+        });
+    }
+
+    /**
+     * Drop the cached entry for a user, e.g. after it was updated or deleted
+     */
+    public void invalidate(Long userId) {
+        log.info("Invalidating cached user {}", userId);
+        cache.invalidate(userId);
+    }
+
+    /**
+     * Expire found users after the positive TTL and unknown IDs after the negative TTL
+     */
+    private record FoundOrMissingExpiry(Duration found, Duration missing) implements Expiry<Long, Optional<UserDTO>> {
+
+        @Override
+        public long expireAfterCreate(Long userId, Optional<UserDTO> user, long currentTime) {
+            return (user.isPresent() ? found : missing).toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(Long userId, Optional<UserDTO> user, long currentTime, long currentDuration) {
+            return expireAfterCreate(userId, user, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(Long userId, Optional<UserDTO> user, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
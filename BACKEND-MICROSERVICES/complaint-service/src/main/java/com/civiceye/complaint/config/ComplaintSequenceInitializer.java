@@ -0,0 +1,37 @@
+package com.civiceye.complaint.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Complaint Sequence Initializer
+ * Moves the complaint_seq table past the highest existing ID, so a database
+ * filled while complaints still used AUTO_INCREMENT keys cannot hand out
+ * an ID that is already taken. Disabled where the sequence is not a table (H2 in load tests).
+ */
+@Component
+@ConditionalOnProperty(name = "complaint.sequence-initializer.enabled", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class ComplaintSequenceInitializer implements SmartInitializingSingleton {
+
+    // Must match the allocationSize of the complaint_seq generator on Complaint
+    private static final int ALLOCATION_SIZE = 50;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM complaints", Long.class);
+        // The pooled optimizer hands out (next_val - allocationSize, next_val]
+        long floor = maxId + ALLOCATION_SIZE + 1;
+        int updated = jdbcTemplate.update("UPDATE complaint_seq SET next_val = ? WHERE next_val < ?", floor, floor);
+        if (updated > 0) {
+            log.info("Advanced complaint_seq to {} (highest complaint ID: {})", floor, maxId);
+        }
+    }
+}
@@ -1,10 +1,15 @@
 package com.civiceye.complaint.config;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.cloud.client.loadbalancer.LoadBalanced;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.web.client.RestTemplate;
 
+import java.time.Duration;
+
 /**
  * RestTemplate Configuration
  * Configures RestTemplate with load balancing for inter-service communication
@@ -13,8 +18,39 @@ import org.springframework.web.client.RestTemplate;
 public class RestTemplateConfig {
 
     @Bean
+    @Primary
     @LoadBalanced
     public RestTemplate restTemplate() {
         return new RestTemplate();
     }
+
+    /**
+     * RestTemplate for the complaint detail fan-out and user lookups; socket timeouts stop
+     * a hung dependency from holding a pool thread long after its answer stopped mattering
+     */
+    @Bean
+    @LoadBalanced
+    public RestTemplate dependencyRestTemplate(RestTemplateBuilder builder,
+                                               @Value("${complaint.detail.connect-timeout-ms:500}") long connectTimeoutMs,
+                                               @Value("${complaint.detail.read-timeout-ms:2000}") long readTimeoutMs) {
+        return builder
+                .setConnectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .setReadTimeout(Duration.ofMillis(readTimeoutMs))
+                .build();
+    }
+
+    /**
+     * RestTemplate for the notification outbox relay; a batch may take longer than a single
+     * lookup, but a hung Notification Service must not stall the shared scheduler thread
+     */
+    @Bean
+    @LoadBalanced
+    public RestTemplate outboxRestTemplate(RestTemplateBuilder builder,
+                                           @Value("${complaint.outbox.connect-timeout-ms:1000}") long connectTimeoutMs,
+                                           @Value("${complaint.outbox.read-timeout-ms:10000}") long readTimeoutMs) {
+        return builder
+                .setConnectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .setReadTimeout(Duration.ofMillis(readTimeoutMs))
+                .build();
+    }
 }
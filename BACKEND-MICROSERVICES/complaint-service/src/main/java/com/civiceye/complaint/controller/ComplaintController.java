@@ -1,17 +1,48 @@
 package com.civiceye.complaint.controller;
 
+import com.civiceye.complaint.dto.BulkStatusUpdateRequest;
+import com.civiceye.complaint.dto.BulkStatusUpdateResult;
+import com.civiceye.complaint.dto.ComplaintDetail;
+import com.civiceye.complaint.dto.ComplaintFilter;
+import com.civiceye.complaint.dto.ComplaintSearchResult;
+import com.civiceye.complaint.dto.ComplaintSubmission;
+import com.civiceye.complaint.dto.CursorPage;
+import com.civiceye.complaint.dto.DuplicatePolicy;
+import com.civiceye.complaint.dto.ExportFormat;
+import com.civiceye.complaint.dto.ImportFormat;
+import com.civiceye.complaint.dto.ImportResult;
+import com.civiceye.complaint.dto.NearbyComplaint;
 import com.civiceye.complaint.entity.Complaint;
+import com.civiceye.complaint.exception.DuplicateComplaintException;
+import com.civiceye.complaint.exception.StatusConflictException;
+import com.civiceye.complaint.service.ComplaintExportService;
+import com.civiceye.complaint.service.ComplaintImportService;
+import com.civiceye.complaint.service.ComplaintDetailService;
 import com.civiceye.complaint.service.ComplaintService;
+import com.civiceye.complaint.stream.ComplaintChangeFeed;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Complaint Controller
@@ -24,17 +55,33 @@ import java.util.Map;
 public class ComplaintController {
 
     private final ComplaintService complaintService;
+    private final ComplaintDetailService complaintDetailService;
+    private final ComplaintImportService complaintImportService;
+    private final ComplaintExportService complaintExportService;
+    private final ComplaintChangeFeed complaintChangeFeed;
 
     /**
      * Create a new complaint
-     * POST /api/complaints
+     * POST /api/complaints?onDuplicate={REJECT|ATTACH|CREATE}
+     *
+     * When open complaints nearby look the same, REJECT (default) answers 409 with
+     * their IDs, ATTACH adds this report to the most similar one and CREATE skips the check.
      */
     @PostMapping
-    public ResponseEntity<?> createComplaint(@Valid @RequestBody Complaint complaint) {
+    public ResponseEntity<?> createComplaint(
+            @Valid @RequestBody Complaint complaint,
+            @RequestParam(defaultValue = "REJECT") DuplicatePolicy onDuplicate) {
         try {
             log.info("Received request to create complaint for user: {}", complaint.getUserId());
-            Complaint createdComplaint = complaintService.createComplaint(complaint);
-            return ResponseEntity.status(HttpStatus.CREATED).body(createdComplaint);
+            ComplaintSubmission submission = complaintService.createComplaint(complaint, onDuplicate);
+            HttpStatus status = submission.isAttached() ? HttpStatus.OK : HttpStatus.CREATED;
+            return ResponseEntity.status(status).body(submission.getComplaint());
+        } catch (DuplicateComplaintException e) {
+            log.info("Rejected duplicate complaint: {}", e.getMessage());
+            Map<String, Object> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            error.put("duplicateCandidates", e.getCandidateIds());
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
         } catch (Exception e) {
             log.error("Error creating complaint: {}", e.getMessage());
             Map<String, String> error = new HashMap<>();
@@ -43,17 +90,90 @@ public class ComplaintController {
         }
     }
 
+    /**
+     * Attach a citizen's report to an existing complaint
+     * POST /api/complaints/{id}/reports
+     */
+    @PostMapping("/{id}/reports")
+    public ResponseEntity<?> attachReport(@PathVariable Long id, @RequestBody Map<String, Long> report) {
+        try {
+            log.info("Received request to attach report to complaint: {}", id);
+            Complaint complaint = complaintService.attachReport(id, report.get("userId"));
+            return ResponseEntity.ok(complaint);
+        } catch (Exception e) {
+            log.error("Error attaching report: {}", e.getMessage());
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+        }
+    }
+
+    /**
+     * Bulk import complaints from an NDJSON or CSV stream
+     * POST /api/complaints/import
+     */
+    @PostMapping(value = "/import", consumes = {MediaType.APPLICATION_NDJSON_VALUE, "text/csv"})
+    public ResponseEntity<?> importComplaints(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream body) {
+        try {
+            ImportFormat format = "csv".equalsIgnoreCase(MediaType.parseMediaType(contentType).getSubtype())
+                    ? ImportFormat.CSV
+                    : ImportFormat.NDJSON;
+            log.info("Received request to import complaints ({})", format);
+            ImportResult result = complaintImportService.importComplaints(body, format);
+            return ResponseEntity.ok(result);
+        } catch (Exception e) {
+            log.error("Error importing complaints: {}", e.getMessage());
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+        }
+    }
+
+    /**
+     * Stream every complaint as NDJSON or CSV, archived ones included unless includeArchived=false
+     * GET /api/complaints/export?format={NDJSON|CSV}&includeArchived={true|false}
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportComplaints(
+            @RequestParam(required = false, defaultValue = "NDJSON") ExportFormat format,
+            @RequestParam(defaultValue = "true") boolean includeArchived) {
+        log.info("Received request to export complaints ({}, includeArchived={})", format, includeArchived);
+        MediaType contentType = format == ExportFormat.CSV
+                ? new MediaType("text", "csv", StandardCharsets.UTF_8)
+                : MediaType.APPLICATION_NDJSON;
+        String fileName = "complaints." + (format == ExportFormat.CSV ? "csv" : "ndjson");
+
+        StreamingResponseBody body = output -> complaintExportService.exportComplaints(output, format, includeArchived);
+        return ResponseEntity.ok()
+                .contentType(contentType)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"")
+                .body(body);
+    }
+
     /**
      * Get complaint by ID
      * GET /api/complaints/{id}
      */
     @GetMapping("/{id}")
-    public ResponseEntity<?> getComplaintById(@PathVariable Long id) {
+    public ResponseEntity<?> getComplaintById(@PathVariable Long id, WebRequest webRequest) {
         try {
             log.info("Received request to get complaint by ID: {}", id);
+
+            // Revalidation of a recently seen version is answered without the database
+            Long knownVersion = complaintService.getKnownComplaintVersion(id);
+            if (knownVersion != null && webRequest.checkNotModified(complaintETag(knownVersion))) {
+                return null;
+            }
+
             Complaint complaint = complaintService.getComplaintById(id)
                     .orElseThrow(() -> new RuntimeException("Complaint not found with ID: " + id));
-            return ResponseEntity.ok(complaint);
+            // A matching If-None-Match still becomes a 304 here, before serialization
+            return ResponseEntity.ok()
+                    .eTag(complaintETag(complaint.getVersion()))
+                    .cacheControl(CacheControl.noCache())
+                    .body(complaint);
         } catch (Exception e) {
             log.error("Error fetching complaint: {}", e.getMessage());
             Map<String, String> error = new HashMap<>();
@@ -63,38 +183,232 @@ public class ComplaintController {
     }
 
     /**
-     * Get all complaints
-     * GET /api/complaints
+     * Get a complaint with its user, media and notifications
+     * GET /api/complaints/{id}/detail
+     *
+     * Parts whose service failed or was too slow are empty and listed in "unavailable".
+     */
+    @GetMapping("/{id}/detail")
+    public ResponseEntity<?> getComplaintDetail(@PathVariable Long id) {
+        try {
+            log.info("Received request to get complaint detail by ID: {}", id);
+            ComplaintDetail detail = complaintDetailService.getComplaintDetail(id)
+                    .orElseThrow(() -> new RuntimeException("Complaint not found with ID: " + id));
+            return ResponseEntity.ok(detail);
+        } catch (Exception e) {
+            log.error("Error fetching complaint detail: {}", e.getMessage());
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
+        }
+    }
+
+    /**
+     * Get a page of complaints matching any combination of filters
+     * GET /api/complaints?status={status}&category={category}&userId={userId}&from={iso}&to={iso}
+     *     &minLat={lat}&maxLat={lat}&minLng={lng}&maxLng={lng}&includeArchived={true|false}
+     *     &cursor={cursor}&size={size}&view={full|summary}
      */
     @GetMapping
-    public ResponseEntity<List<Complaint>> getAllComplaints(
-            @RequestParam(required = false) String status,
-            @RequestParam(required = false) String category) {
-        
-        log.info("Received request to get all complaints (status: {}, category: {})", status, category);
-        
-        List<Complaint> complaints;
-        
-        if (status != null) {
-            complaints = complaintService.getComplaintsByStatus(Complaint.ComplaintStatus.valueOf(status));
-        } else if (category != null) {
-            complaints = complaintService.getComplaintsByCategory(category);
-        } else {
-            complaints = complaintService.getAllComplaints();
+    public ResponseEntity<?> getAllComplaints(
+            @RequestParam(required = false) Complaint.ComplaintStatus status,
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) Long userId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) Double minLat,
+            @RequestParam(required = false) Double maxLat,
+            @RequestParam(required = false) Double minLng,
+            @RequestParam(required = false) Double maxLng,
+            @RequestParam(defaultValue = "false") boolean includeArchived,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) String view,
+            WebRequest webRequest) {
+        try {
+            ComplaintFilter filter = new ComplaintFilter(status, category, userId, from, to,
+                    minLat, maxLat, minLng, maxLng, includeArchived);
+            log.info("Received request to get complaints matching: {}", filter);
+
+            String eTag = listETag();
+            if (webRequest.checkNotModified(eTag)) {
+                return null;
+            }
+
+            if (isSummaryView(view)) {
+                return listResponse(eTag, withNextLink(complaintService.findComplaintSummaries(filter, cursor, size)));
+            }
+            CursorPage<Complaint> page = complaintService.findComplaints(filter, cursor, size);
+            return listResponse(eTag, withNextLink(page));
+        } catch (IllegalArgumentException e) {
+            log.error("Error fetching complaints: {}", e.getMessage());
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
         }
-        
-        return ResponseEntity.ok(complaints);
     }
 
     /**
-     * Get complaints by user ID
-     * GET /api/complaints/user/{userId}
+     * Get a page of complaints by user ID
+     * GET /api/complaints/user/{userId}?includeArchived={true|false}&cursor={cursor}&size={size}&view={full|summary}
      */
     @GetMapping("/user/{userId}")
-    public ResponseEntity<List<Complaint>> getComplaintsByUserId(@PathVariable Long userId) {
-        log.info("Received request to get complaints for user: {}", userId);
-        List<Complaint> complaints = complaintService.getComplaintsByUserId(userId);
-        return ResponseEntity.ok(complaints);
+    public ResponseEntity<?> getComplaintsByUserId(
+            @PathVariable Long userId,
+            @RequestParam(defaultValue = "false") boolean includeArchived,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) String view,
+            WebRequest webRequest) {
+        try {
+            log.info("Received request to get complaints for user: {}", userId);
+
+            String eTag = listETag();
+            if (webRequest.checkNotModified(eTag)) {
+                return null;
+            }
+
+            if (includeArchived) {
+                ComplaintFilter filter = new ComplaintFilter();
+                filter.setUserId(userId);
+                filter.setIncludeArchived(true);
+                if (isSummaryView(view)) {
+                    return listResponse(eTag, withNextLink(complaintService.findComplaintSummaries(filter, cursor, size)));
+                }
+                return listResponse(eTag, withNextLink(complaintService.findComplaints(filter, cursor, size)));
+            }
+            if (isSummaryView(view)) {
+                return listResponse(eTag, withNextLink(complaintService.getComplaintSummariesByUserId(userId, cursor, size)));
+            }
+            CursorPage<Complaint> page = complaintService.getComplaintsByUserId(userId, cursor, size);
+            return listResponse(eTag, withNextLink(page));
+        } catch (IllegalArgumentException e) {
+            log.error("Error fetching complaints: {}", e.getMessage());
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+        }
+    }
+
+    /**
+     * Get complaints near a point, nearest first
+     * GET /api/complaints/nearby?lat={lat}&lng={lng}&radius={metres}&status={status}
+     */
+    @GetMapping("/nearby")
+    public ResponseEntity<?> getNearbyComplaints(
+            @RequestParam double lat,
+            @RequestParam double lng,
+            @RequestParam double radius,
+            @RequestParam(required = false) Set<Complaint.ComplaintStatus> status,
+            @RequestParam(required = false) Integer limit) {
+        try {
+            log.info("Received request to get complaints within {} m of ({}, {})", radius, lat, lng);
+            List<NearbyComplaint> complaints = complaintService.getNearbyComplaints(lat, lng, radius, status, limit);
+            return ResponseEntity.ok(complaints);
+        } catch (IllegalArgumentException e) {
+            log.error("Error fetching nearby complaints: {}", e.getMessage());
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+        }
+    }
+
+    /**
+     * Search complaints by text, best match first
+     * GET /api/complaints/search?q={text}&status={status}&category={category}
+     */
+    @GetMapping("/search")
+    public ResponseEntity<?> searchComplaints(
+            @RequestParam String q,
+            @RequestParam(required = false) Complaint.ComplaintStatus status,
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) Integer limit) {
+        try {
+            log.info("Received request to search complaints: {}", q);
+            List<ComplaintSearchResult> results = complaintService.searchComplaints(q, status, category, limit);
+            return ResponseEntity.ok(results);
+        } catch (IllegalArgumentException e) {
+            log.error("Error searching complaints: {}", e.getMessage());
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+        }
+    }
+
+    /**
+     * Subscribe to complaint changes as server-sent events
+     * GET /api/complaints/stream?status={status}&category={category}&minLat=&maxLat=&minLng=&maxLng=
+     * Reconnecting clients send Last-Event-ID (or lastEventId) to receive what they missed.
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamComplaints(
+            @RequestParam(required = false) Complaint.ComplaintStatus status,
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) Double minLat,
+            @RequestParam(required = false) Double maxLat,
+            @RequestParam(required = false) Double minLng,
+            @RequestParam(required = false) Double maxLng,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventIdHeader,
+            @RequestParam(required = false) String lastEventId) {
+        try {
+            ComplaintFilter filter = new ComplaintFilter(status, category, null, null, null,
+                    minLat, maxLat, minLng, maxLng, false);
+            log.info("Received request to stream complaints matching: {}", filter);
+            if (filter.hasBoundingBox() && (minLat == null || maxLat == null || minLng == null || maxLng == null)) {
+                throw new IllegalArgumentException("Bounding box needs minLat, maxLat, minLng and maxLng");
+            }
+            SseEmitter emitter = complaintChangeFeed.subscribe(filter,
+                    lastEventIdHeader != null ? lastEventIdHeader : lastEventId);
+            return ResponseEntity.ok()
+                    .header("X-Accel-Buffering", "no")
+                    .body(emitter);
+        } catch (IllegalArgumentException e) {
+            // The response type is fixed to the event stream, so errors go out as plain status codes
+            log.error("Error opening complaint stream: {}", e.getMessage());
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        } catch (IllegalStateException e) {
+            log.error("Error opening complaint stream: {}", e.getMessage());
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, e.getMessage());
+        }
+    }
+
+    /**
+     * Get complaint counts per grid cell for one map tile
+     * GET /api/complaints/heatmap?z={zoom}&x={tileX}&y={tileY}&status={status}&category={category}
+     */
+    @GetMapping("/heatmap")
+    public ResponseEntity<?> getHeatmapTile(
+            @RequestParam int z,
+            @RequestParam int x,
+            @RequestParam int y,
+            @RequestParam(required = false) Complaint.ComplaintStatus status,
+            @RequestParam(required = false) String category) {
+        try {
+            log.info("Received request to get heatmap tile {}/{}/{}", z, x, y);
+            return ResponseEntity.ok(complaintService.getHeatmapTile(z, x, y, status, category));
+        } catch (IllegalArgumentException e) {
+            log.error("Error fetching heatmap tile: {}", e.getMessage());
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+        }
+    }
+
+    /**
+     * Get complaint counts by status, category and day
+     * GET /api/complaints/stats?days={days}
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<?> getStatistics(@RequestParam(required = false) Integer days) {
+        try {
+            log.info("Received request to get complaint statistics");
+            return ResponseEntity.ok(complaintService.getStatistics(days));
+        } catch (IllegalArgumentException e) {
+            log.error("Error fetching statistics: {}", e.getMessage());
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+        }
     }
 
     /**
@@ -127,9 +441,17 @@ public class ComplaintController {
             log.info("Received request to update complaint status: {}", id);
             String statusStr = statusUpdate.get("status");
             Complaint.ComplaintStatus status = Complaint.ComplaintStatus.valueOf(statusStr);
-            
-            Complaint updatedComplaint = complaintService.updateComplaintStatus(id, status);
+            String expectedStr = statusUpdate.get("expectedStatus");
+            Complaint.ComplaintStatus expectedStatus = expectedStr != null ? Complaint.ComplaintStatus.valueOf(expectedStr) : null;
+
+            Complaint updatedComplaint = complaintService.updateComplaintStatus(id, expectedStatus, status);
             return ResponseEntity.ok(updatedComplaint);
+        } catch (StatusConflictException e) {
+            log.info("Status update conflict: {}", e.getMessage());
+            Map<String, Object> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            error.put("currentStatus", e.getCurrentStatus());
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
         } catch (Exception e) {
             log.error("Error updating complaint status: {}", e.getMessage());
             Map<String, String> error = new HashMap<>();
@@ -138,6 +460,24 @@ public class ComplaintController {
         }
     }
 
+    /**
+     * Move many complaints to one status in a single statement
+     * PUT /api/complaints/status
+     */
+    @PutMapping("/status")
+    public ResponseEntity<?> updateComplaintStatuses(@Valid @RequestBody BulkStatusUpdateRequest request) {
+        try {
+            log.info("Received request to update status of {} complaints to {}", request.getIds().size(), request.getStatus());
+            BulkStatusUpdateResult result = complaintService.updateComplaintStatuses(request.getIds(), request.getStatus());
+            return ResponseEntity.ok(result);
+        } catch (Exception e) {
+            log.error("Error updating complaint statuses: {}", e.getMessage());
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+        }
+    }
+
     /**
      * Delete complaint
      * DELETE /api/complaints/{id}
@@ -159,4 +499,50 @@ public class ComplaintController {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
         }
     }
+
+    /**
+     * Strong ETag of a single complaint: its version
+     */
+    private static String complaintETag(Long version) {
+        return "\"v" + version + "\"";
+    }
+
+    /**
+     * ETag of every list response, taken before reading so it is never newer than the data
+     */
+    private String listETag() {
+        return "\"l" + complaintService.getCollectionVersion() + "\"";
+    }
+
+    private static ResponseEntity<?> listResponse(String eTag, Object body) {
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(CacheControl.noCache())
+                .body(body);
+    }
+
+    /**
+     * List views: "full" (default) returns entities, "summary" returns ComplaintSummary rows
+     */
+    private static boolean isSummaryView(String view) {
+        if (view == null || "full".equalsIgnoreCase(view)) {
+            return false;
+        }
+        if ("summary".equalsIgnoreCase(view)) {
+            return true;
+        }
+        throw new IllegalArgumentException("Unknown view: " + view + " (expected full or summary)");
+    }
+
+    /**
+     * Helper method to add the absolute link of the next page, keeping the current filters
+     */
+    private <T> CursorPage<T> withNextLink(CursorPage<T> page) {
+        if (page.getNextCursor() != null) {
+            page.setNext(ServletUriComponentsBuilder.fromCurrentRequest()
+                    .replaceQueryParam("cursor", page.getNextCursor())
+                    .toUriString());
+        }
+        return page;
+    }
 }
@@ -0,0 +1,33 @@
+package com.civiceye.complaint.controller;
+
+import com.civiceye.complaint.client.UserClient;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * User Cache Controller
+ * Internal endpoint User Service calls on every complaint-service instance
+ * when a user changes. Not routed through the API Gateway.
+ */
+@RestController
+@RequestMapping("/api/internal/user-cache")
+@RequiredArgsConstructor
+@Slf4j
+public class UserCacheController {
+
+    private final UserClient userClient;
+
+    @DeleteMapping("/{userId}")
+    public ResponseEntity<?> invalidateUser(@PathVariable Long userId) {
+        log.info("Received request to invalidate cached user: {}", userId);
+        userClient.invalidate(userId);
+        Map<String, String> response = new HashMap<>();
+        response.put("message", "User cache entry invalidated");
+        return ResponseEntity.ok(response);
+    }
+}
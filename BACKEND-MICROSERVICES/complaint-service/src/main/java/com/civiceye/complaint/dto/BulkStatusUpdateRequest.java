@@ -0,0 +1,26 @@
+package com.civiceye.complaint.dto;
+
+import com.civiceye.complaint.entity.Complaint;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Bulk Status Update Request DTO
+ * Moves many complaints to one status
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkStatusUpdateRequest {
+
+    @NotEmpty(message = "At least one complaint ID is required")
+    private List<Long> ids;
+
+    @NotNull(message = "Status is required")
+    private Complaint.ComplaintStatus status;
+}
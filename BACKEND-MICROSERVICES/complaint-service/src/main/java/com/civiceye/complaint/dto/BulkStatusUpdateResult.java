@@ -0,0 +1,22 @@
+package com.civiceye.complaint.dto;
+
+import com.civiceye.complaint.entity.Complaint;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Bulk Status Update Result DTO
+ * Which of the requested complaints changed, already had the status, or do not exist
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkStatusUpdateResult {
+    private Complaint.ComplaintStatus status;
+    private List<Long> updated;
+    private List<Long> unchanged;
+    private List<Long> notFound;
+}
@@ -0,0 +1,57 @@
+package com.civiceye.complaint.dto;
+
+import com.civiceye.complaint.entity.Complaint;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * Complaint Cursor
+ * Keyset position over (createdAt, id), exchanged with clients as an opaque string
+ */
+@Getter
+@AllArgsConstructor
+public class ComplaintCursor {
+
+    /**
+     * Position before the newest complaint, used when no cursor is given
+     */
+    public static final ComplaintCursor FIRST =
+            new ComplaintCursor(LocalDateTime.of(9999, 12, 31, 23, 59, 59), Long.MAX_VALUE);
+
+    private static final char SEPARATOR = '|';
+
+    private final LocalDateTime createdAt;
+    private final Long id;
+
+    public static ComplaintCursor of(Complaint complaint) {
+        return new ComplaintCursor(complaint.getCreatedAt(), complaint.getId());
+    }
+
+    public static ComplaintCursor of(ComplaintSummary summary) {
+        return new ComplaintCursor(summary.getCreatedAt(), summary.getId());
+    }
+
+    public String encode() {
+        String raw = createdAt.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static ComplaintCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return FIRST;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            return new ComplaintCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+    }
+}
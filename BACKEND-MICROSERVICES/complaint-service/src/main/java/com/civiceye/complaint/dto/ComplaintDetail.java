@@ -0,0 +1,25 @@
+package com.civiceye.complaint.dto;
+
+import com.civiceye.complaint.entity.Complaint;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Complaint Detail DTO
+ * A complaint with its reporting user, media and notifications, gathered in one call.
+ * Parts whose service failed or missed its timeout are empty and named in unavailable
+ * (USER, MEDIA, NOTIFICATIONS); user is also null when User Service no longer knows it.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ComplaintDetail {
+    private Complaint complaint;
+    private UserDTO user;
+    private List<MediaDTO> media;
+    private List<NotificationDTO> notifications;
+    private List<String> unavailable;
+}
@@ -0,0 +1,21 @@
+package com.civiceye.complaint.dto;
+
+import com.civiceye.complaint.entity.Complaint;
+import com.civiceye.complaint.event.ComplaintSnapshot;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Complaint Feed Event DTO
+ * Payload of one server-sent complaint change. For deletes, complaint is the last
+ * state before deletion; previousStatus is set for status changes.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ComplaintFeedEvent {
+    private String type;
+    private ComplaintSnapshot complaint;
+    private Complaint.ComplaintStatus previousStatus;
+}
@@ -0,0 +1,34 @@
+package com.civiceye.complaint.dto;
+
+import com.civiceye.complaint.entity.Complaint;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Complaint Filter DTO
+ * Optional criteria for listing complaints; null fields do not filter.
+ * The createdAt range is [from, to). The bounding box needs all four corners.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ComplaintFilter {
+    private Complaint.ComplaintStatus status;
+    private String category;
+    private Long userId;
+    private LocalDateTime from;
+    private LocalDateTime to;
+    private Double minLatitude;
+    private Double maxLatitude;
+    private Double minLongitude;
+    private Double maxLongitude;
+    // Also list complaints moved to the archive table
+    private boolean includeArchived;
+
+    public boolean hasBoundingBox() {
+        return minLatitude != null || maxLatitude != null || minLongitude != null || maxLongitude != null;
+    }
+}
@@ -0,0 +1,18 @@
+package com.civiceye.complaint.dto;
+
+import com.civiceye.complaint.entity.Complaint;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Complaint Search Result DTO
+ * A complaint matched by a text search with its relevance score
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ComplaintSearchResult {
+    private double score;
+    private Complaint complaint;
+}
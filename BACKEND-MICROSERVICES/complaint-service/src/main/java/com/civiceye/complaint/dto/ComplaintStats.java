@@ -0,0 +1,22 @@
+package com.civiceye.complaint.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * Complaint Stats DTO
+ * Complaint counts overall and broken down by status, category and creation day
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ComplaintStats {
+    private long total;
+    private Map<String, Long> byStatus;
+    private Map<String, Long> byCategory;
+    private Map<LocalDate, Long> byDay;
+}
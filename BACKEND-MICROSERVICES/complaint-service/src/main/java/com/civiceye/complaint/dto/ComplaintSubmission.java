@@ -0,0 +1,18 @@
+package com.civiceye.complaint.dto;
+
+import com.civiceye.complaint.entity.Complaint;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Complaint Submission DTO
+ * Outcome of submitting a complaint: a new row, or the open complaint it was attached to
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ComplaintSubmission {
+    private Complaint complaint;
+    private boolean attached;
+}
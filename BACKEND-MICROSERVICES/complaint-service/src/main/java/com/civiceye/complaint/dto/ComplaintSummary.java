@@ -0,0 +1,28 @@
+package com.civiceye.complaint.dto;
+
+import com.civiceye.complaint.entity.Complaint;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Complaint Summary DTO
+ * List view of a complaint without description and coordinates.
+ * Repositories select these columns directly, so no entity is hydrated.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ComplaintSummary {
+    private Long id;
+    private Long userId;
+    private String title;
+    private String category;
+    private Complaint.ComplaintStatus status;
+    private String address;
+    private Integer reportCount;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,11 @@
+package com.civiceye.complaint.dto;
+
+/**
+ * Duplicate Policy Enum
+ * What to do when a new complaint looks like an open one
+ */
+public enum DuplicatePolicy {
+    REJECT, // return the candidate IDs and create nothing
+    ATTACH, // add the report to the most similar open complaint
+    CREATE  // skip the check and create a new complaint
+}
@@ -0,0 +1,10 @@
+package com.civiceye.complaint.dto;
+
+/**
+ * Export Format Enum
+ * Supported bulk export payloads
+ */
+public enum ExportFormat {
+    NDJSON, // one JSON complaint per line
+    CSV     // header row, then one complaint per line; columns readable by the CSV import
+}
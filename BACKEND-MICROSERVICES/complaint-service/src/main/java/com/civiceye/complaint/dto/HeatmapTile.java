@@ -0,0 +1,36 @@
+package com.civiceye.complaint.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Heatmap Tile DTO
+ * Complaint counts for one Web Mercator tile, as grid cells with their centre point.
+ * level is the aggregation zoom the cells come from; it may be coarser than z.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class HeatmapTile {
+    private int z;
+    private int x;
+    private int y;
+    private int level;
+    private long total;
+    private List<Cell> cells;
+
+    /**
+     * One non-empty grid cell
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Cell {
+        private double latitude;
+        private double longitude;
+        private long count;
+    }
+}
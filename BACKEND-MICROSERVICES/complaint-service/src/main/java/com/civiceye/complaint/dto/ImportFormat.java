@@ -0,0 +1,10 @@
+package com.civiceye.complaint.dto;
+
+/**
+ * Import Format Enum
+ * Supported bulk import payloads
+ */
+public enum ImportFormat {
+    NDJSON, // one JSON complaint per line
+    CSV     // header row, then one complaint per line
+}
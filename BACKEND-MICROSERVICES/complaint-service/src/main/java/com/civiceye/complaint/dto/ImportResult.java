@@ -0,0 +1,32 @@
+package com.civiceye.complaint.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Import Result DTO
+ * Summary of a bulk import with the errors of rejected rows
+ */
+@Data
+@NoArgsConstructor
+public class ImportResult {
+    private long received;
+    private long imported;
+    private long failed;
+    private List<RowError> errors = new ArrayList<>(); // capped, see complaint.import.max-reported-errors
+
+    /**
+     * Error for one input row; line numbers are 1-based and include a CSV header
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RowError {
+        private long line;
+        private String error;
+    }
+}
@@ -0,0 +1,24 @@
+package com.civiceye.complaint.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Media DTO for inter-service communication
+ * Represents media metadata from Media Service
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MediaDTO {
+    private Long id;
+    private Long complaintId;
+    private String fileName;
+    private String fileType;
+    private Long fileSize;
+    private String fileUrl;
+    private LocalDateTime uploadedAt;
+}
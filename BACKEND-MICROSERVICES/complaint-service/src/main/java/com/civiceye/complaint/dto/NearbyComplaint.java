@@ -0,0 +1,18 @@
+package com.civiceye.complaint.dto;
+
+import com.civiceye.complaint.entity.Complaint;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Nearby Complaint DTO
+ * A complaint returned by a radius search with its distance from the search point
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class NearbyComplaint {
+    private double distanceMeters;
+    private Complaint complaint;
+}
@@ -0,0 +1,24 @@
+package com.civiceye.complaint.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Notification DTO for inter-service communication
+ * Represents a notification from Notification Service
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationDTO {
+    private Long id;
+    private Long userId;
+    private Long complaintId;
+    private String message;
+    private String type;
+    private Boolean isRead;
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,88 @@
+package com.civiceye.complaint.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+
+/**
+ * Archived Complaint Entity
+ * Represents a closed complaint moved out of the hot complaints table by the
+ * ComplaintArchiver. Rows are copied column for column and never change afterwards.
+ */
+@Entity
+@Immutable
+@Table(name = "complaints_archive", indexes = {
+        @Index(name = "idx_complaints_archive_created", columnList = "created_at, id"),
+        @Index(name = "idx_complaints_archive_user_created", columnList = "user_id, created_at, id"),
+        @Index(name = "idx_complaints_archive_status_created", columnList = "status, created_at, id"),
+        @Index(name = "idx_complaints_archive_category_created", columnList = "category, created_at, id")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArchivedComplaint {
+
+    // Same ID as in the hot table; assigned, never generated
+    @Id
+    private Long id;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    @Column(nullable = false)
+    private String title;
+
+    @Column(nullable = false, length = 2000)
+    private String description;
+
+    private String category;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Complaint.ComplaintStatus status;
+
+    private Double latitude;
+
+    private Double longitude;
+
+    @Column(length = 500)
+    private String address;
+
+    @Column(nullable = false)
+    private Integer reportCount;
+
+    @Column(nullable = false)
+    private Long version;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime updatedAt;
+
+    @Column(nullable = false)
+    private LocalDateTime archivedAt;
+
+    /**
+     * Detached Complaint with the same state, so callers see one shape for hot and archived rows
+     */
+    public Complaint toComplaint() {
+        Complaint complaint = new Complaint();
+        complaint.setId(id);
+        complaint.setUserId(userId);
+        complaint.setTitle(title);
+        complaint.setDescription(description);
+        complaint.setCategory(category);
+        complaint.setStatus(status);
+        complaint.setLatitude(latitude);
+        complaint.setLongitude(longitude);
+        complaint.setAddress(address);
+        complaint.setReportCount(reportCount);
+        complaint.setVersion(version);
+        complaint.setCreatedAt(createdAt);
+        complaint.setUpdatedAt(updatedAt);
+        return complaint;
+    }
+}
@@ -7,6 +7,7 @@ import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -17,14 +18,28 @@ import java.time.LocalDateTime;
  * Represents a citizen complaint about infrastructure issues
  */
 @Entity
-@Table(name = "complaints")
+@Table(name = "complaints", indexes = {
+        // Composite indexes backing keyset pagination on (created_at, id)
+        @Index(name = "idx_complaints_created", columnList = "created_at, id"),
+        @Index(name = "idx_complaints_user_created", columnList = "user_id, created_at, id"),
+        @Index(name = "idx_complaints_status_created", columnList = "status, created_at, id"),
+        @Index(name = "idx_complaints_category_created", columnList = "category, created_at, id"),
+        // Filter combinations; user_id alone is selective enough for the other user_id pairs
+        @Index(name = "idx_complaints_status_category_created", columnList = "status, category, created_at, id"),
+        @Index(name = "idx_complaints_user_status_created", columnList = "user_id, status, created_at, id"),
+        @Index(name = "idx_complaints_location", columnList = "latitude, longitude"),
+        // Archival candidates
+        @Index(name = "idx_complaints_status_updated", columnList = "status, updated_at")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class Complaint {
 
+    // Pooled sequence (a table on MySQL) so Hibernate can batch inserts; IDENTITY disables batching
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "complaint_seq")
+    @SequenceGenerator(name = "complaint_seq", sequenceName = "complaint_seq", allocationSize = 50)
     private Long id;
 
     @NotNull(message = "User ID is required")
@@ -55,6 +70,17 @@ public class Complaint {
     @Size(max = 500, message = "Address must be at most 500 characters")
     private String address;
 
+    // Number of citizen reports attached to this complaint, including the original
+    @Column(nullable = false)
+    @ColumnDefault("1")
+    private Integer reportCount = 1;
+
+    // Optimistic lock; also the complaint's ETag. Bulk JPQL updates increment it explicitly
+    @Version
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private Long version;
+
     @CreationTimestamp
     @Column(updatable = false)
     private LocalDateTime createdAt;
@@ -0,0 +1,74 @@
+package com.civiceye.complaint.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * Notification Outbox Entity
+ * A notification written in the same transaction as the complaint change
+ * that caused it, waiting to be relayed to the Notification Service
+ */
+@Entity
+@Table(name = "notification_outbox", indexes = {
+        @Index(name = "idx_outbox_status_next_attempt", columnList = "status, next_attempt_at, id")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "notification_outbox_seq")
+    @SequenceGenerator(name = "notification_outbox_seq", sequenceName = "notification_outbox_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    private Long complaintId;
+
+    @Column(nullable = false, length = 1000)
+    private String message;
+
+    @Column(nullable = false)
+    private String type; // COMPLAINT_UPDATE, etc.
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private OutboxStatus status = OutboxStatus.PENDING;
+
+    @Column(nullable = false)
+    private Integer attempts = 0;
+
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(length = 1000)
+    private String lastError;
+
+    @CreationTimestamp
+    @Column(updatable = false)
+    private LocalDateTime createdAt;
+
+    public NotificationOutbox(Long userId, Long complaintId, String message, String type) {
+        this.userId = userId;
+        this.complaintId = complaintId;
+        this.message = message;
+        this.type = type;
+        this.nextAttemptAt = LocalDateTime.now();
+    }
+
+    /**
+     * Outbox Status Enum
+     * Delivered entries are deleted; FAILED ones gave up and are kept for inspection
+     */
+    public enum OutboxStatus {
+        PENDING,
+        FAILED
+    }
+}
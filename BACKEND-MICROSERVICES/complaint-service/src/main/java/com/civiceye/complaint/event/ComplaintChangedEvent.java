@@ -0,0 +1,56 @@
+package com.civiceye.complaint.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Complaint Changed Event
+ * Published by the complaint service on every write and delivered to the
+ * in-memory indexes once the surrounding transaction has committed
+ */
+@Getter
+@RequiredArgsConstructor
+public class ComplaintChangedEvent {
+
+    private final Type type;
+    private final ComplaintSnapshot previous; // null for CREATED
+    private final ComplaintSnapshot current;  // null for DELETED and ARCHIVED
+
+    public static ComplaintChangedEvent created(ComplaintSnapshot current) {
+        return new ComplaintChangedEvent(Type.CREATED, null, current);
+    }
+
+    public static ComplaintChangedEvent updated(ComplaintSnapshot previous, ComplaintSnapshot current) {
+        return new ComplaintChangedEvent(Type.UPDATED, previous, current);
+    }
+
+    public static ComplaintChangedEvent statusChanged(ComplaintSnapshot previous, ComplaintSnapshot current) {
+        return new ComplaintChangedEvent(Type.STATUS_CHANGED, previous, current);
+    }
+
+    public static ComplaintChangedEvent deleted(ComplaintSnapshot previous) {
+        return new ComplaintChangedEvent(Type.DELETED, previous, null);
+    }
+
+    public static ComplaintChangedEvent archived(ComplaintSnapshot previous) {
+        return new ComplaintChangedEvent(Type.ARCHIVED, previous, null);
+    }
+
+    /**
+     * Latest known state: the current one, or the previous one for deletes
+     */
+    public ComplaintSnapshot latest() {
+        return current != null ? current : previous;
+    }
+
+    /**
+     * Event Type Enum
+     */
+    public enum Type {
+        CREATED,
+        UPDATED,
+        STATUS_CHANGED,
+        DELETED,
+        ARCHIVED // moved to the archive table; read-only from then on
+    }
+}
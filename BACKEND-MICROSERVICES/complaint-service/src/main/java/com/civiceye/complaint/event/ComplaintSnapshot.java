@@ -0,0 +1,46 @@
+package com.civiceye.complaint.event;
+
+import com.civiceye.complaint.entity.Complaint;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+
+/**
+ * Complaint Snapshot
+ * Immutable copy of a complaint's state, safe to hand to in-memory indexes
+ */
+@Value
+public class ComplaintSnapshot {
+    Long id;
+    Long userId;
+    String title;
+    String description;
+    String category;
+    Complaint.ComplaintStatus status;
+    Double latitude;
+    Double longitude;
+    String address;
+    LocalDateTime createdAt;
+    LocalDateTime updatedAt;
+    Long version;
+
+    public static ComplaintSnapshot of(Complaint complaint) {
+        return new ComplaintSnapshot(
+                complaint.getId(),
+                complaint.getUserId(),
+                complaint.getTitle(),
+                complaint.getDescription(),
+                complaint.getCategory(),
+                complaint.getStatus(),
+                complaint.getLatitude(),
+                complaint.getLongitude(),
+                complaint.getAddress(),
+                complaint.getCreatedAt(),
+                complaint.getUpdatedAt(),
+                complaint.getVersion());
+    }
+
+    public boolean hasLocation() {
+        return latitude != null && longitude != null;
+    }
+}
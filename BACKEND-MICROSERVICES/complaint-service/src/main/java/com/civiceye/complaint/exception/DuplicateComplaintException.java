@@ -0,0 +1,19 @@
+package com.civiceye.complaint.exception;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Thrown when a new complaint looks like one or more open complaints
+ */
+@Getter
+public class DuplicateComplaintException extends RuntimeException {
+
+    private final List<Long> candidateIds;
+
+    public DuplicateComplaintException(List<Long> candidateIds) {
+        super("Similar complaints already reported nearby: " + candidateIds);
+        this.candidateIds = candidateIds;
+    }
+}
@@ -0,0 +1,18 @@
+package com.civiceye.complaint.exception;
+
+import com.civiceye.complaint.entity.Complaint;
+import lombok.Getter;
+
+/**
+ * Thrown when a status transition expected a status the complaint no longer has
+ */
+@Getter
+public class StatusConflictException extends RuntimeException {
+
+    private final Complaint.ComplaintStatus currentStatus;
+
+    public StatusConflictException(Long id, Complaint.ComplaintStatus expectedStatus, Complaint.ComplaintStatus currentStatus) {
+        super("Complaint " + id + " is " + currentStatus + ", expected " + expectedStatus);
+        this.currentStatus = currentStatus;
+    }
+}
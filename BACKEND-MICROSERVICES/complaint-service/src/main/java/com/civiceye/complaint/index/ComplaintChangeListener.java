@@ -0,0 +1,23 @@
+package com.civiceye.complaint.index;
+
+import com.civiceye.complaint.event.ComplaintChangedEvent;
+
+/**
+ * Complaint Change Listener
+ * Implemented by in-memory indexes that the ComplaintIndexer keeps in sync.
+ * On startup every stored complaint is replayed as a CREATED event, and writes
+ * made through other instances arrive later as ordinary events from the
+ * ComplaintIndexer's periodic reconcile.
+ *
+ * Listeners that do not track archived complaints see an archival as a DELETED
+ * event. Those that do never see ARCHIVED events, and on startup they are also
+ * replayed the archive table.
+ */
+public interface ComplaintChangeListener {
+
+    void onComplaintChanged(ComplaintChangedEvent event);
+
+    default boolean tracksArchived() {
+        return false;
+    }
+}
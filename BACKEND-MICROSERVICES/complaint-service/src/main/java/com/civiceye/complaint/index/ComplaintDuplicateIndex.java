@@ -0,0 +1,155 @@
+package com.civiceye.complaint.index;
+
+import com.civiceye.complaint.entity.Complaint;
+import com.civiceye.complaint.event.ComplaintChangedEvent;
+import com.civiceye.complaint.event.ComplaintSnapshot;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Complaint Duplicate Index
+ * Keeps a MinHash signature of the text of every open complaint. Candidates
+ * for a new report come from the spatial index (same category, within the
+ * configured distance) and are kept when their estimated Jaccard similarity
+ * over character shingles reaches the threshold.
+ */
+@Component
+@RequiredArgsConstructor
+public class ComplaintDuplicateIndex implements ComplaintChangeListener {
+
+    private static final Set<Complaint.ComplaintStatus> OPEN_STATUSES =
+            EnumSet.of(Complaint.ComplaintStatus.PENDING, Complaint.ComplaintStatus.IN_PROGRESS);
+
+    private static final int SHINGLE_LENGTH = 4;
+    private static final int SIGNATURE_LENGTH = 64;
+    private static final long[] HASH_MULTIPLIERS = new long[SIGNATURE_LENGTH];
+    private static final long[] HASH_OFFSETS = new long[SIGNATURE_LENGTH];
+
+    static {
+        // Fixed seed so signatures stay comparable across restarts
+        Random random = new Random(0x5EEDL);
+        for (int i = 0; i < SIGNATURE_LENGTH; i++) {
+            HASH_MULTIPLIERS[i] = random.nextLong() | 1L;
+            HASH_OFFSETS[i] = random.nextLong();
+        }
+    }
+
+    private final ComplaintSpatialIndex spatialIndex;
+
+    private final Map<Long, int[]> signatures = new ConcurrentHashMap<>();
+
+    @Value("${complaint.duplicates.radius-meters:100}")
+    private double radiusMeters;
+
+    @Value("${complaint.duplicates.similarity-threshold:0.5}")
+    private double similarityThreshold;
+
+    @Value("${complaint.duplicates.max-candidates:5}")
+    private int maxCandidates;
+
+    @Override
+    public void onComplaintChanged(ComplaintChangedEvent event) {
+        ComplaintSnapshot complaint = event.latest();
+        if (event.getType() == ComplaintChangedEvent.Type.DELETED
+                || !OPEN_STATUSES.contains(complaint.getStatus())) {
+            signatures.remove(complaint.getId());
+        } else if (event.getType() != ComplaintChangedEvent.Type.STATUS_CHANGED
+                || !signatures.containsKey(complaint.getId())) {
+            signatures.put(complaint.getId(), signature(complaint.getTitle(), complaint.getDescription()));
+        }
+    }
+
+    /**
+     * Find open complaints that look like the given report, most similar first.
+     * Reports without a location are never matched.
+     */
+    public List<Long> findCandidates(Complaint complaint) {
+        if (complaint.getLatitude() == null || complaint.getLongitude() == null) {
+            return List.of();
+        }
+
+        int[] signature = signature(complaint.getTitle(), complaint.getDescription());
+        List<Candidate> candidates = new ArrayList<>();
+        for (ComplaintSpatialIndex.Hit hit : spatialIndex.findWithin(
+                complaint.getLatitude(), complaint.getLongitude(), radiusMeters, OPEN_STATUSES)) {
+            ComplaintSpatialIndex.Entry entry = hit.getEntry();
+            if (!entry.getCategory().equalsIgnoreCase(complaint.getCategory())) {
+                continue;
+            }
+            int[] other = signatures.get(entry.getId());
+            if (other == null) {
+                continue;
+            }
+            double similarity = similarity(signature, other);
+            if (similarity >= similarityThreshold) {
+                candidates.add(new Candidate(entry.getId(), similarity));
+            }
+        }
+
+        return candidates.stream()
+                .sorted(Comparator.comparingDouble(Candidate::similarity).reversed())
+                .limit(maxCandidates)
+                .map(Candidate::id)
+                .toList();
+    }
+
+    /**
+     * MinHash signature over the character shingles of the normalized text
+     */
+    static int[] signature(String title, String description) {
+        String text = normalize(title + " " + description);
+        int[] signature = new int[SIGNATURE_LENGTH];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+
+        int shingles = Math.max(1, text.length() - SHINGLE_LENGTH + 1);
+        for (int start = 0; start < shingles; start++) {
+            int shingle = text.substring(start, Math.min(text.length(), start + SHINGLE_LENGTH)).hashCode();
+            for (int i = 0; i < SIGNATURE_LENGTH; i++) {
+                int hash = mix(shingle * HASH_MULTIPLIERS[i] + HASH_OFFSETS[i]);
+                if (hash < signature[i]) {
+                    signature[i] = hash;
+                }
+            }
+        }
+        return signature;
+    }
+
+    /**
+     * Estimated Jaccard similarity: the share of matching signature slots
+     */
+    static double similarity(int[] a, int[] b) {
+        int matches = 0;
+        for (int i = 0; i < SIGNATURE_LENGTH; i++) {
+            if (a[i] == b[i]) {
+                matches++;
+            }
+        }
+        return (double) matches / SIGNATURE_LENGTH;
+    }
+
+    private static String normalize(String text) {
+        return text.toLowerCase(Locale.ROOT).replaceAll("[^\\p{L}\\p{N}]+", " ").trim();
+    }
+
+    private static int mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        return (int) value;
+    }
+
+    private record Candidate(Long id, double similarity) {
+    }
+}
@@ -0,0 +1,269 @@
+package com.civiceye.complaint.index;
+
+import com.civiceye.complaint.dto.HeatmapTile;
+import com.civiceye.complaint.entity.Complaint;
+import com.civiceye.complaint.event.ComplaintChangedEvent;
+import com.civiceye.complaint.event.ComplaintSnapshot;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Complaint Heatmap
+ * Complaint counts on Web Mercator grids at several zoom levels, moved by every
+ * committed write. Each tile is split into cells-per-tile x cells-per-tile cells;
+ * a tile request reads at most that many map entries from the nearest stored level.
+ *
+ * Cells are immutable and replaced atomically through ConcurrentHashMap.compute,
+ * so readers never lock. Each cell keeps counts per (status, category) pair, the
+ * pairs being interned to small integers shared by all cells.
+ */
+@Component
+public class ComplaintHeatmap implements ComplaintChangeListener {
+
+    public static final int MAX_ZOOM = 22;
+    private static final int TILE_PIXELS = 256;
+    private static final double MAX_LATITUDE = 85.05112878;
+
+    private final int[] levels;
+    private final int cellsPerTile;
+    private final Map<Integer, Map<Long, Cell>> grids = new ConcurrentHashMap<>();
+
+    private final Map<Combo, Integer> comboIds = new ConcurrentHashMap<>();
+    private volatile Combo[] combos = new Combo[0];
+
+    public ComplaintHeatmap(@Value("${complaint.heatmap.levels:0,2,4,6,8,10,12,14,16}") int[] levels,
+                            @Value("${complaint.heatmap.cells-per-tile:32}") int cellsPerTile) {
+        if (cellsPerTile < 1 || cellsPerTile > TILE_PIXELS || Integer.bitCount(cellsPerTile) != 1) {
+            throw new IllegalArgumentException("complaint.heatmap.cells-per-tile must be a power of two up to " + TILE_PIXELS);
+        }
+        // Level 0 is always kept so every requested zoom has a level at or below it
+        TreeSet<Integer> sorted = new TreeSet<>();
+        sorted.add(0);
+        for (int level : levels) {
+            if (level < 0 || level > MAX_ZOOM) {
+                throw new IllegalArgumentException("Heatmap level out of range: " + level);
+            }
+            sorted.add(level);
+        }
+        this.levels = sorted.stream().mapToInt(Integer::intValue).toArray();
+        this.cellsPerTile = cellsPerTile;
+        for (int level : this.levels) {
+            grids.put(level, new ConcurrentHashMap<>());
+        }
+    }
+
+    // Archived complaints still count
+    @Override
+    public boolean tracksArchived() {
+        return true;
+    }
+
+    @Override
+    public void onComplaintChanged(ComplaintChangedEvent event) {
+        ComplaintSnapshot previous = event.getPrevious();
+        ComplaintSnapshot current = event.getCurrent();
+
+        switch (event.getType()) {
+            case CREATED -> count(current, 1);
+            case DELETED -> count(previous, -1);
+            default -> {
+                if (!Objects.equals(previous.getLatitude(), current.getLatitude())
+                        || !Objects.equals(previous.getLongitude(), current.getLongitude())
+                        || previous.getStatus() != current.getStatus()
+                        || !Objects.equals(previous.getCategory(), current.getCategory())) {
+                    count(previous, -1);
+                    count(current, 1);
+                }
+            }
+        }
+    }
+
+    /**
+     * Counts for tile (z, x, y); null status or category means no filter on that field
+     */
+    public HeatmapTile tile(int z, int x, int y, Complaint.ComplaintStatus status, String category) {
+        int level = levelFor(z);
+        Map<Long, Cell> grid = grids.get(level);
+        boolean[] matching = matchingCombos(status, category);
+
+        // Cell range of the requested tile in the level's grid; below z one cell may cover several tiles
+        long scale = 1L << (z - level);
+        long firstX = (long) x * cellsPerTile / scale;
+        long lastX = ((x + 1L) * cellsPerTile + scale - 1) / scale;
+        long firstY = (long) y * cellsPerTile / scale;
+        long lastY = ((y + 1L) * cellsPerTile + scale - 1) / scale;
+
+        List<HeatmapTile.Cell> cells = new ArrayList<>();
+        long total = 0;
+        for (long cellY = firstY; cellY < lastY; cellY++) {
+            for (long cellX = firstX; cellX < lastX; cellX++) {
+                Cell cell = grid.get(key(cellX, cellY));
+                long count = cell == null ? 0 : cell.count(matching);
+                if (count > 0) {
+                    cells.add(new HeatmapTile.Cell(latitude(level, cellY + 0.5), longitude(level, cellX + 0.5), count));
+                    total += count;
+                }
+            }
+        }
+        return new HeatmapTile(z, x, y, level, total, cells);
+    }
+
+    /**
+     * Number of non-empty cells stored for a level
+     */
+    int storedCells(int level) {
+        return grids.get(level).size();
+    }
+
+    private void count(ComplaintSnapshot complaint, int delta) {
+        if (!complaint.hasLocation()) {
+            return;
+        }
+        int combo = comboId(complaint.getStatus(), complaint.getCategory());
+        double latitude = Math.max(-MAX_LATITUDE, Math.min(MAX_LATITUDE, complaint.getLatitude()));
+        double mercatorX = (complaint.getLongitude() + 180) / 360;
+        double sinLatitude = Math.sin(Math.toRadians(latitude));
+        double mercatorY = 0.5 - Math.log((1 + sinLatitude) / (1 - sinLatitude)) / (4 * Math.PI);
+
+        for (int level : levels) {
+            long cellCount = (long) cellsPerTile << level;
+            long cellX = clamp((long) Math.floor(mercatorX * cellCount), cellCount);
+            long cellY = clamp((long) Math.floor(mercatorY * cellCount), cellCount);
+
+            grids.get(level).compute(key(cellX, cellY), (key, cell) -> {
+                Cell updated = (cell == null ? Cell.EMPTY : cell).add(combo, delta);
+                return updated.isEmpty() ? null : updated;
+            });
+        }
+    }
+
+    /**
+     * Finest stored level not finer than the requested zoom
+     */
+    private int levelFor(int z) {
+        int level = levels[0];
+        for (int candidate : levels) {
+            if (candidate <= z) {
+                level = candidate;
+            }
+        }
+        return level;
+    }
+
+    private int comboId(Complaint.ComplaintStatus status, String category) {
+        Combo combo = new Combo(status, category);
+        Integer id = comboIds.get(combo);
+        return id != null ? id : registerCombo(combo);
+    }
+
+    private synchronized int registerCombo(Combo combo) {
+        Integer id = comboIds.get(combo);
+        if (id != null) {
+            return id;
+        }
+        Combo[] extended = Arrays.copyOf(combos, combos.length + 1);
+        extended[combos.length] = combo;
+        combos = extended;
+        comboIds.put(combo, combos.length - 1);
+        return combos.length - 1;
+    }
+
+    private boolean[] matchingCombos(Complaint.ComplaintStatus status, String category) {
+        Combo[] known = combos;
+        boolean[] matching = new boolean[known.length];
+        for (int i = 0; i < known.length; i++) {
+            matching[i] = (status == null || known[i].status() == status)
+                    && (category == null || Objects.equals(known[i].category(), category));
+        }
+        return matching;
+    }
+
+    private double longitude(int level, double cellX) {
+        return cellX / ((long) cellsPerTile << level) * 360 - 180;
+    }
+
+    private double latitude(int level, double cellY) {
+        double mercatorY = 0.5 - cellY / ((long) cellsPerTile << level);
+        return Math.toDegrees(Math.atan(Math.sinh(2 * Math.PI * mercatorY)));
+    }
+
+    private static long clamp(long cell, long cellCount) {
+        return Math.max(0, Math.min(cellCount - 1, cell));
+    }
+
+    private static long key(long cellX, long cellY) {
+        return cellX << 32 | cellY;
+    }
+
+    private record Combo(Complaint.ComplaintStatus status, String category) {
+    }
+
+    /**
+     * Immutable counts of one grid cell, per interned (status, category) pair
+     */
+    private static final class Cell {
+
+        static final Cell EMPTY = new Cell(new int[0], new long[0]);
+
+        private final int[] combos;
+        private final long[] counts;
+
+        private Cell(int[] combos, long[] counts) {
+            this.combos = combos;
+            this.counts = counts;
+        }
+
+        Cell add(int combo, int delta) {
+            for (int i = 0; i < combos.length; i++) {
+                if (combos[i] == combo) {
+                    long[] updated = counts.clone();
+                    updated[i] += delta;
+                    return updated[i] > 0 ? new Cell(combos, updated) : without(i);
+                }
+            }
+            if (delta <= 0) {
+                return this;
+            }
+            int[] extendedCombos = Arrays.copyOf(combos, combos.length + 1);
+            long[] extendedCounts = Arrays.copyOf(counts, counts.length + 1);
+            extendedCombos[combos.length] = combo;
+            extendedCounts[counts.length] = delta;
+            return new Cell(extendedCombos, extendedCounts);
+        }
+
+        long count(boolean[] matching) {
+            long sum = 0;
+            for (int i = 0; i < combos.length; i++) {
+                // Pairs registered after the filter was built cannot match it yet
+                if (combos[i] < matching.length && matching[combos[i]]) {
+                    sum += counts[i];
+                }
+            }
+            return sum;
+        }
+
+        boolean isEmpty() {
+            return combos.length == 0;
+        }
+
+        private Cell without(int index) {
+            int[] remainingCombos = new int[combos.length - 1];
+            long[] remainingCounts = new long[counts.length - 1];
+            for (int i = 0, j = 0; i < combos.length; i++) {
+                if (i != index) {
+                    remainingCombos[j] = combos[i];
+                    remainingCounts[j++] = counts[i];
+                }
+            }
+            return new Cell(remainingCombos, remainingCounts);
+        }
+    }
+}
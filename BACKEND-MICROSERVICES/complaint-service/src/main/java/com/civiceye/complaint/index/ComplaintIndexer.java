@@ -0,0 +1,244 @@
+package com.civiceye.complaint.index;
+
+import com.civiceye.complaint.dto.ComplaintCursor;
+import com.civiceye.complaint.entity.ArchivedComplaint;
+import com.civiceye.complaint.entity.Complaint;
+import com.civiceye.complaint.event.ComplaintChangedEvent;
+import com.civiceye.complaint.event.ComplaintSnapshot;
+import com.civiceye.complaint.repository.ArchivedComplaintRepository;
+import com.civiceye.complaint.repository.ComplaintRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Complaint Indexer
+ * Fans committed complaint changes out to every in-memory index and loads
+ * the indexes from the database before the web server starts accepting requests.
+ *
+ * Only writes made through this instance arrive as events, so the hot table is
+ * reconciled periodically: rows that differ from the last state handed to the
+ * indexes are replayed as updates, and complaints that disappeared as deletes or
+ * archivals. The last state of every hot complaint is kept here for that diff.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ComplaintIndexer implements SmartInitializingSingleton {
+
+    private static final int REPLAY_PAGE_SIZE = 1000;
+
+    private final List<ComplaintChangeListener> listeners;
+    private final ComplaintRepository complaintRepository;
+    private final ArchivedComplaintRepository archivedComplaintRepository;
+
+    // Last state handed to the indexes, per hot complaint; updated under the entry's lock
+    private final Map<Long, ComplaintSnapshot> known = new ConcurrentHashMap<>();
+    // Hot complaints deleted or archived here since the current reconcile started
+    private final Set<Long> removed = ConcurrentHashMap.newKeySet();
+
+    @TransactionalEventListener
+    public void onComplaintChanged(ComplaintChangedEvent event) {
+        ComplaintSnapshot latest = event.latest();
+        known.compute(latest.getId(), (id, previous) -> {
+            if (event.getCurrent() == null) {
+                removed.add(id);
+                if (previous != null) {
+                    dispatch(new ComplaintChangedEvent(event.getType(), previous, null));
+                } else if (event.getType() == ComplaintChangedEvent.Type.ARCHIVED) {
+                    // Never indexed here: only the archive-tracking indexes should count it
+                    dispatchArchived(ComplaintChangedEvent.created(latest));
+                }
+                return null;
+            }
+            if (previous == null) {
+                dispatch(ComplaintChangedEvent.created(latest));
+                return latest;
+            }
+            if (isOlder(latest, previous)) {
+                // A reconcile already applied a newer row
+                return previous;
+            }
+            // Diff against what the indexes hold, which may be older than the event's own previous state
+            dispatch(new ComplaintChangedEvent(event.getType(), previous, latest));
+            return latest;
+        });
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        log.info("Loading {} complaint indexes from database", listeners.size());
+        long started = System.currentTimeMillis();
+        long count = 0;
+
+        ComplaintCursor position = ComplaintCursor.FIRST;
+        List<Complaint> page;
+        do {
+            page = complaintRepository.findPage(position.getCreatedAt(), position.getId(),
+                    PageRequest.ofSize(REPLAY_PAGE_SIZE));
+            for (Complaint complaint : page) {
+                ComplaintSnapshot snapshot = ComplaintSnapshot.of(complaint);
+                known.put(snapshot.getId(), snapshot);
+                ComplaintChangedEvent event = ComplaintChangedEvent.created(snapshot);
+                for (ComplaintChangeListener listener : listeners) {
+                    listener.onComplaintChanged(event);
+                }
+            }
+            count += page.size();
+            if (!page.isEmpty()) {
+                position = ComplaintCursor.of(page.get(page.size() - 1));
+            }
+        } while (page.size() == REPLAY_PAGE_SIZE);
+
+        List<ComplaintChangeListener> archiveListeners = listeners.stream()
+                .filter(ComplaintChangeListener::tracksArchived)
+                .toList();
+        long archived = 0;
+        if (!archiveListeners.isEmpty()) {
+            position = ComplaintCursor.FIRST;
+            List<ArchivedComplaint> archivePage;
+            do {
+                archivePage = archivedComplaintRepository.findPage(position.getCreatedAt(), position.getId(),
+                        PageRequest.ofSize(REPLAY_PAGE_SIZE));
+                for (ArchivedComplaint archivedComplaint : archivePage) {
+                    Complaint complaint = archivedComplaint.toComplaint();
+                    ComplaintChangedEvent event = ComplaintChangedEvent.created(ComplaintSnapshot.of(complaint));
+                    for (ComplaintChangeListener listener : archiveListeners) {
+                        listener.onComplaintChanged(event);
+                    }
+                    position = ComplaintCursor.of(complaint);
+                }
+                archived += archivePage.size();
+            } while (archivePage.size() == REPLAY_PAGE_SIZE);
+        }
+
+        log.info("Indexed {} complaints and {} archived complaints in {} ms",
+                count, archived, System.currentTimeMillis() - started);
+    }
+
+    /**
+     * Bring the indexes in line with the hot table, picking up writes made through other instances
+     */
+    @Scheduled(initialDelayString = "${complaint.index.reconcile-interval-ms:300000}",
+               fixedDelayString = "${complaint.index.reconcile-interval-ms:300000}")
+    public void reconcile() {
+        long started = System.currentTimeMillis();
+        try {
+            removed.clear();
+            Set<Long> missing = new HashSet<>(known.keySet());
+            AtomicLong changed = new AtomicLong();
+
+            ComplaintCursor position = ComplaintCursor.FIRST;
+            List<Complaint> page;
+            do {
+                page = complaintRepository.findPage(position.getCreatedAt(), position.getId(),
+                        PageRequest.ofSize(REPLAY_PAGE_SIZE));
+                for (Complaint complaint : page) {
+                    missing.remove(complaint.getId());
+                    if (reconcile(ComplaintSnapshot.of(complaint))) {
+                        changed.incrementAndGet();
+                    }
+                }
+                if (!page.isEmpty()) {
+                    position = ComplaintCursor.of(page.get(page.size() - 1));
+                }
+            } while (page.size() == REPLAY_PAGE_SIZE);
+
+            // Known complaints no longer in the hot table were deleted or archived elsewhere
+            List<Long> gone = new ArrayList<>(missing);
+            for (int from = 0; from < gone.size(); from += REPLAY_PAGE_SIZE) {
+                List<Long> chunk = gone.subList(from, Math.min(gone.size(), from + REPLAY_PAGE_SIZE));
+                Set<Long> archived = new HashSet<>();
+                archivedComplaintRepository.findAllById(chunk).forEach(a -> archived.add(a.getId()));
+                for (Long id : chunk) {
+                    known.computeIfPresent(id, (key, previous) -> {
+                        dispatch(archived.contains(id)
+                                ? ComplaintChangedEvent.archived(previous)
+                                : ComplaintChangedEvent.deleted(previous));
+                        changed.incrementAndGet();
+                        return null;
+                    });
+                }
+            }
+
+            log.info("Reconciled complaint indexes in {} ms: {} changes from other instances",
+                    System.currentTimeMillis() - started, changed.get());
+        } catch (RuntimeException e) {
+            log.error("Error reconciling complaint indexes: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Apply a row read from the database if the indexes hold something else; returns true if they did
+     */
+    private boolean reconcile(ComplaintSnapshot row) {
+        boolean[] applied = new boolean[1];
+        known.compute(row.getId(), (id, previous) -> {
+            if (previous == null) {
+                // Unless this instance deleted or archived it after the page was read
+                if (removed.contains(id)) {
+                    return null;
+                }
+                dispatch(ComplaintChangedEvent.created(row));
+                applied[0] = true;
+                return row;
+            }
+            if (row.equals(previous) || isOlder(row, previous)) {
+                return previous;
+            }
+            dispatch(ComplaintChangedEvent.updated(previous, row));
+            applied[0] = true;
+            return row;
+        });
+        return applied[0];
+    }
+
+    private void dispatch(ComplaintChangedEvent event) {
+        // Archival is a removal for indexes over the hot table only
+        ComplaintChangedEvent removal = event.getType() == ComplaintChangedEvent.Type.ARCHIVED
+                ? ComplaintChangedEvent.deleted(event.getPrevious())
+                : null;
+        for (ComplaintChangeListener listener : listeners) {
+            if (removal == null) {
+                apply(listener, event);
+            } else if (!listener.tracksArchived()) {
+                apply(listener, removal);
+            }
+        }
+    }
+
+    private void dispatchArchived(ComplaintChangedEvent event) {
+        for (ComplaintChangeListener listener : listeners) {
+            if (listener.tracksArchived()) {
+                apply(listener, event);
+            }
+        }
+    }
+
+    private void apply(ComplaintChangeListener listener, ComplaintChangedEvent event) {
+        try {
+            listener.onComplaintChanged(event);
+        } catch (RuntimeException e) {
+            // One broken index must not keep the others out of date
+            log.error("Index {} failed to apply {} event: {}",
+                    listener.getClass().getSimpleName(), event.getType(), e.getMessage());
+        }
+    }
+
+    private static boolean isOlder(ComplaintSnapshot candidate, ComplaintSnapshot current) {
+        return candidate.getVersion() != null && current.getVersion() != null
+                && candidate.getVersion() < current.getVersion();
+    }
+}
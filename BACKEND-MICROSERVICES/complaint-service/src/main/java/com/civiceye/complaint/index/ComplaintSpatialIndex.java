@@ -0,0 +1,168 @@
+package com.civiceye.complaint.index;
+
+import com.civiceye.complaint.entity.Complaint;
+import com.civiceye.complaint.event.ComplaintChangedEvent;
+import com.civiceye.complaint.event.ComplaintSnapshot;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Complaint Spatial Index
+ * Grid of fixed-size lat/lng buckets over every located complaint.
+ * A radius query only visits the buckets overlapping the search circle,
+ * so its cost follows the number of nearby complaints, not the table size.
+ */
+@Component
+public class ComplaintSpatialIndex implements ComplaintChangeListener {
+
+    public static final double EARTH_RADIUS_METERS = 6_371_000d;
+    private static final double METERS_PER_DEGREE = Math.PI * EARTH_RADIUS_METERS / 180d;
+
+    @Value("${complaint.spatial.cell-size-degrees:0.01}")
+    private double cellSizeDegrees;
+
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<Long, Map<Long, Entry>> cells = new ConcurrentHashMap<>();
+
+    @Override
+    public void onComplaintChanged(ComplaintChangedEvent event) {
+        ComplaintSnapshot complaint = event.latest();
+        if (event.getType() == ComplaintChangedEvent.Type.DELETED || !complaint.hasLocation()) {
+            remove(complaint.getId());
+        } else {
+            put(complaint);
+        }
+    }
+
+    /**
+     * Find complaints within radiusMeters of the given point, nearest first.
+     * An empty or null statuses set matches every status.
+     */
+    public List<Hit> findWithin(double latitude, double longitude, double radiusMeters,
+                                Set<Complaint.ComplaintStatus> statuses) {
+        double latDelta = radiusMeters / METERS_PER_DEGREE;
+        double cosLat = Math.cos(Math.toRadians(latitude));
+        double lngDelta = cosLat < 1e-6 ? 180d : Math.min(180d, radiusMeters / (METERS_PER_DEGREE * cosLat));
+
+        long minRow = row(Math.max(-90d, latitude - latDelta));
+        long maxRow = row(Math.min(90d, latitude + latDelta));
+        long minCol = column(Math.max(-180d, longitude - lngDelta));
+        long maxCol = column(Math.min(180d, longitude + lngDelta));
+
+        List<Hit> hits = new ArrayList<>();
+        for (long row = minRow; row <= maxRow; row++) {
+            for (long col = minCol; col <= maxCol; col++) {
+                Map<Long, Entry> cell = cells.get(cellKey(row, col));
+                if (cell == null) {
+                    continue;
+                }
+                for (Entry entry : cell.values()) {
+                    if (statuses != null && !statuses.isEmpty() && !statuses.contains(entry.getStatus())) {
+                        continue;
+                    }
+                    double distance = distanceMeters(latitude, longitude, entry.getLatitude(), entry.getLongitude());
+                    if (distance <= radiusMeters) {
+                        hits.add(new Hit(entry, distance));
+                    }
+                }
+            }
+        }
+        hits.sort(Comparator.comparingDouble(Hit::getDistanceMeters));
+        return hits;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Great-circle distance in metres (haversine formula)
+     */
+    public static double distanceMeters(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1d, Math.sqrt(a)));
+    }
+
+    private void put(ComplaintSnapshot complaint) {
+        Entry entry = new Entry(complaint.getId(), complaint.getLatitude(), complaint.getLongitude(),
+                complaint.getStatus(), complaint.getCategory());
+        entries.compute(entry.getId(), (id, previous) -> {
+            if (previous != null) {
+                removeFromCell(previous);
+            }
+            // Inside compute, so a concurrent removeFromCell cannot drop the cell between creation and insert
+            cells.compute(cellKey(entry), (key, cell) -> {
+                Map<Long, Entry> target = cell != null ? cell : new ConcurrentHashMap<>();
+                target.put(id, entry);
+                return target;
+            });
+            return entry;
+        });
+    }
+
+    private void remove(Long id) {
+        entries.computeIfPresent(id, (key, previous) -> {
+            removeFromCell(previous);
+            return null;
+        });
+    }
+
+    private void removeFromCell(Entry entry) {
+        cells.computeIfPresent(cellKey(entry), (key, cell) -> {
+            cell.remove(entry.getId());
+            return cell.isEmpty() ? null : cell;
+        });
+    }
+
+    private long cellKey(Entry entry) {
+        return cellKey(row(entry.getLatitude()), column(entry.getLongitude()));
+    }
+
+    private long cellKey(long row, long col) {
+        return (row << 32) | col;
+    }
+
+    private long row(double latitude) {
+        return (long) Math.floor((latitude + 90d) / cellSizeDegrees);
+    }
+
+    private long column(double longitude) {
+        return (long) Math.floor((longitude + 180d) / cellSizeDegrees);
+    }
+
+    /**
+     * Indexed complaint position
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Entry {
+        private final Long id;
+        private final double latitude;
+        private final double longitude;
+        private final Complaint.ComplaintStatus status;
+        private final String category;
+    }
+
+    /**
+     * Query match with its distance from the search point
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Hit {
+        private final Entry entry;
+        private final double distanceMeters;
+    }
+}
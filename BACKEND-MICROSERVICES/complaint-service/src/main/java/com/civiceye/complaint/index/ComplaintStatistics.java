@@ -0,0 +1,105 @@
+package com.civiceye.complaint.index;
+
+import com.civiceye.complaint.dto.ComplaintStats;
+import com.civiceye.complaint.entity.Complaint;
+import com.civiceye.complaint.event.ComplaintChangedEvent;
+import com.civiceye.complaint.event.ComplaintSnapshot;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Complaint Statistics
+ * Counters by status, category and creation day, moved by every committed write.
+ * LongAdder keeps concurrent writers off a shared cache line; reads sum the
+ * counters without going to the database.
+ */
+@Component
+public class ComplaintStatistics implements ComplaintChangeListener {
+
+    private final LongAdder total = new LongAdder();
+    private final Map<Complaint.ComplaintStatus, LongAdder> byStatus;
+    private final Map<String, LongAdder> byCategory = new ConcurrentHashMap<>();
+    private final Map<LocalDate, LongAdder> byDay = new ConcurrentHashMap<>();
+
+    public ComplaintStatistics() {
+        Map<Complaint.ComplaintStatus, LongAdder> counters = new EnumMap<>(Complaint.ComplaintStatus.class);
+        for (Complaint.ComplaintStatus status : Complaint.ComplaintStatus.values()) {
+            counters.put(status, new LongAdder());
+        }
+        this.byStatus = Collections.unmodifiableMap(counters);
+    }
+
+    // Archived complaints still count
+    @Override
+    public boolean tracksArchived() {
+        return true;
+    }
+
+    @Override
+    public void onComplaintChanged(ComplaintChangedEvent event) {
+        ComplaintSnapshot previous = event.getPrevious();
+        ComplaintSnapshot current = event.getCurrent();
+
+        switch (event.getType()) {
+            case CREATED -> count(current, 1);
+            case DELETED -> count(previous, -1);
+            default -> {
+                if (previous.getStatus() != current.getStatus()) {
+                    byStatus.get(previous.getStatus()).decrement();
+                    byStatus.get(current.getStatus()).increment();
+                }
+                if (!Objects.equals(previous.getCategory(), current.getCategory())) {
+                    counter(byCategory, previous.getCategory()).decrement();
+                    counter(byCategory, current.getCategory()).increment();
+                }
+            }
+        }
+    }
+
+    /**
+     * Current counts; byDay covers the last `days` days including today
+     */
+    public ComplaintStats snapshot(int days) {
+        Map<String, Long> statuses = new LinkedHashMap<>();
+        byStatus.forEach((status, counter) -> statuses.put(status.name(), counter.sum()));
+
+        Map<String, Long> categories = new TreeMap<>();
+        byCategory.forEach((category, counter) -> {
+            long count = counter.sum();
+            if (count > 0) {
+                categories.put(category, count);
+            }
+        });
+
+        Map<LocalDate, Long> daily = new TreeMap<>();
+        LocalDate today = LocalDate.now();
+        for (LocalDate day = today.minusDays(days - 1L); !day.isAfter(today); day = day.plusDays(1)) {
+            LongAdder counter = byDay.get(day);
+            daily.put(day, counter == null ? 0L : counter.sum());
+        }
+
+        return new ComplaintStats(total.sum(), statuses, categories, daily);
+    }
+
+    private void count(ComplaintSnapshot complaint, int delta) {
+        total.add(delta);
+        byStatus.get(complaint.getStatus()).add(delta);
+        counter(byCategory, complaint.getCategory()).add(delta);
+        if (complaint.getCreatedAt() != null) {
+            counter(byDay, complaint.getCreatedAt().toLocalDate()).add(delta);
+        }
+    }
+
+    private static <K> LongAdder counter(Map<K, LongAdder> counters, K key) {
+        return counters.computeIfAbsent(key, k -> new LongAdder());
+    }
+}
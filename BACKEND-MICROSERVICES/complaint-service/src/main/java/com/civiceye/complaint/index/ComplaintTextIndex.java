@@ -0,0 +1,188 @@
+package com.civiceye.complaint.index;
+
+import com.civiceye.complaint.entity.Complaint;
+import com.civiceye.complaint.event.ComplaintChangedEvent;
+import com.civiceye.complaint.event.ComplaintSnapshot;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Complaint Text Index
+ * Inverted index over complaint titles and descriptions, ranked with BM25.
+ * Title terms count double. Writers take the write lock for the few postings
+ * they touch, so searches see either the old or the new version of a complaint.
+ */
+@Component
+public class ComplaintTextIndex implements ComplaintChangeListener {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final int TITLE_WEIGHT = 2;
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "an", "and", "are", "as", "at", "be", "been", "but", "by", "for", "from", "has", "have",
+            "in", "into", "is", "it", "its", "near", "no", "not", "of", "on", "or", "our", "so", "that",
+            "the", "their", "there", "this", "to", "very", "was", "we", "were", "with");
+
+    private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+    private final Map<Long, Document> documents = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private long totalLength;
+
+    @Override
+    public void onComplaintChanged(ComplaintChangedEvent event) {
+        ComplaintSnapshot complaint = event.latest();
+        lock.writeLock().lock();
+        try {
+            remove(complaint.getId());
+            if (event.getType() != ComplaintChangedEvent.Type.DELETED) {
+                add(complaint);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Rank complaints matching any query term, best first.
+     * Null status or category means no filter on that field.
+     */
+    public List<Hit> search(String query, Complaint.ComplaintStatus status, String category, int limit) {
+        Set<String> terms = new LinkedHashSet<>(tokenize(query));
+        Map<Long, Double> scores = new HashMap<>();
+
+        lock.readLock().lock();
+        try {
+            if (documents.isEmpty()) {
+                return List.of();
+            }
+            int documentCount = documents.size();
+            double averageLength = (double) totalLength / documentCount;
+
+            for (String term : terms) {
+                Map<Long, Integer> posting = postings.get(term);
+                if (posting == null) {
+                    continue;
+                }
+                double idf = Math.log(1 + (documentCount - posting.size() + 0.5) / (posting.size() + 0.5));
+                for (Map.Entry<Long, Integer> entry : posting.entrySet()) {
+                    Document document = documents.get(entry.getKey());
+                    if (!document.matches(status, category)) {
+                        continue;
+                    }
+                    int frequency = entry.getValue();
+                    double norm = K1 * (1 - B + B * document.getLength() / averageLength);
+                    scores.merge(entry.getKey(), idf * frequency * (K1 + 1) / (frequency + norm), Double::sum);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        // Keep only the best `limit` scores
+        PriorityQueue<Hit> best = new PriorityQueue<>(Comparator.comparingDouble(Hit::getScore));
+        for (Map.Entry<Long, Double> entry : scores.entrySet()) {
+            best.offer(new Hit(entry.getKey(), entry.getValue()));
+            if (best.size() > limit) {
+                best.poll();
+            }
+        }
+        List<Hit> hits = new ArrayList<>(best);
+        hits.sort(Comparator.comparingDouble(Hit::getScore).reversed());
+        return hits;
+    }
+
+    /**
+     * Lower-cased letter/digit runs without stop words, with a plural "s" stripped
+     */
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        for (String token : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (token.length() < 2 || STOP_WORDS.contains(token)) {
+                continue;
+            }
+            if (token.length() > 3 && token.endsWith("s") && !token.endsWith("ss")) {
+                token = token.substring(0, token.length() - 1);
+            }
+            tokens.add(token);
+        }
+        return tokens;
+    }
+
+    private void add(ComplaintSnapshot complaint) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        for (String token : tokenize(complaint.getTitle())) {
+            frequencies.merge(token, TITLE_WEIGHT, Integer::sum);
+        }
+        for (String token : tokenize(complaint.getDescription())) {
+            frequencies.merge(token, 1, Integer::sum);
+        }
+
+        int length = 0;
+        for (Map.Entry<String, Integer> entry : frequencies.entrySet()) {
+            postings.computeIfAbsent(entry.getKey(), term -> new HashMap<>()).put(complaint.getId(), entry.getValue());
+            length += entry.getValue();
+        }
+        documents.put(complaint.getId(), new Document(frequencies.keySet(), length,
+                complaint.getStatus(), complaint.getCategory()));
+        totalLength += length;
+    }
+
+    private void remove(Long id) {
+        Document document = documents.remove(id);
+        if (document == null) {
+            return;
+        }
+        for (String term : document.getTerms()) {
+            Map<Long, Integer> posting = postings.get(term);
+            posting.remove(id);
+            if (posting.isEmpty()) {
+                postings.remove(term);
+            }
+        }
+        totalLength -= document.getLength();
+    }
+
+    /**
+     * Indexed complaint: its terms (for removal), length and filter fields
+     */
+    @Getter
+    @AllArgsConstructor
+    private static class Document {
+        private final Set<String> terms;
+        private final int length;
+        private final Complaint.ComplaintStatus status;
+        private final String category;
+
+        boolean matches(Complaint.ComplaintStatus status, String category) {
+            return (status == null || status == this.status)
+                    && (category == null || category.equalsIgnoreCase(this.category));
+        }
+    }
+
+    /**
+     * Ranked match
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Hit {
+        private final Long id;
+        private final double score;
+    }
+}
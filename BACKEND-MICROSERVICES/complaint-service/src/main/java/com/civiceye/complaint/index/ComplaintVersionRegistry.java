@@ -0,0 +1,71 @@
+package com.civiceye.complaint.index;
+
+import com.civiceye.complaint.event.ComplaintChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Complaint Version Registry
+ * Known complaint versions and a version for the collection as a whole,
+ * used to answer conditional GETs without reading the database.
+ *
+ * Writes on other replicas are not seen here, so entries expire after the
+ * staleness bound and the collection tag rolls over at the same interval.
+ * A client therefore sees another replica's change within that bound.
+ */
+@Component
+public class ComplaintVersionRegistry implements ComplaintChangeListener {
+
+    private final Cache<Long, Long> versions;
+    private final long bucketMillis;
+    // Seeded per start so tags from before a restart never match again
+    private final long epoch = System.currentTimeMillis();
+    private final AtomicLong collectionVersion = new AtomicLong();
+
+    public ComplaintVersionRegistry(@Value("${complaint.etag.maximum-size:100000}") long maximumSize,
+                                    @Value("${complaint.etag.max-staleness-seconds:10}") long maxStalenessSeconds) {
+        this.versions = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(maxStalenessSeconds))
+                .build();
+        this.bucketMillis = Duration.ofSeconds(maxStalenessSeconds).toMillis();
+    }
+
+    @Override
+    public void onComplaintChanged(ComplaintChangedEvent event) {
+        collectionVersion.incrementAndGet();
+        if (event.getType() == ComplaintChangedEvent.Type.DELETED) {
+            versions.invalidate(event.getPrevious().getId());
+        } else {
+            remember(event.getCurrent().getId(), event.getCurrent().getVersion());
+        }
+    }
+
+    /**
+     * Version of a complaint if it was seen recently; null if unknown
+     */
+    public Long knownVersion(Long id) {
+        return versions.getIfPresent(id);
+    }
+
+    /**
+     * Record a version read from the database; never replaces a newer one
+     */
+    public void remember(Long id, Long version) {
+        if (version != null) {
+            versions.asMap().merge(id, version, Math::max);
+        }
+    }
+
+    /**
+     * Tag that changes on every local write and at least once per staleness interval
+     */
+    public String collectionTag() {
+        return epoch + "." + collectionVersion.get() + "." + System.currentTimeMillis() / bucketMillis;
+    }
+}
@@ -0,0 +1,203 @@
+package com.civiceye.complaint.outbox;
+
+import com.civiceye.complaint.entity.NotificationOutbox;
+import com.civiceye.complaint.repository.NotificationOutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Notification Outbox Relay
+ * Drains the notification outbox in batches to the Notification Service.
+ * Each batch is claimed with SKIP LOCKED in a short transaction that moves it
+ * past a claim window, so several complaint-service instances can relay side
+ * by side without sending an entry twice, and the POST itself runs without
+ * holding row locks or a connection. Failed deliveries are retried with
+ * exponential backoff until they give up.
+ */
+@Component
+@Slf4j
+public class NotificationOutboxRelay {
+
+    private static final String NOTIFICATION_BATCH_URL = "http://NOTIFICATION-SERVICE/api/notifications/batch";
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final NotificationOutboxRepository outboxRepository;
+    private final RestTemplate restTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    private final AtomicLong lagSeconds = new AtomicLong();
+    private final AtomicLong pending = new AtomicLong();
+    private final Counter delivered;
+    private final Counter retried;
+    private final Counter failed;
+
+    @Value("${complaint.outbox.batch-size:100}")
+    private int batchSize;
+
+    @Value("${complaint.outbox.max-batches-per-run:50}")
+    private int maxBatchesPerRun;
+
+    @Value("${complaint.outbox.max-attempts:10}")
+    private int maxAttempts;
+
+    @Value("${complaint.outbox.initial-backoff-ms:1000}")
+    private long initialBackoffMs;
+
+    @Value("${complaint.outbox.max-backoff-ms:300000}")
+    private long maxBackoffMs;
+
+    @Value("${complaint.outbox.claim-ms:60000}")
+    private long claimMs;
+
+    public NotificationOutboxRelay(NotificationOutboxRepository outboxRepository,
+                                   @Qualifier("outboxRestTemplate") RestTemplate restTemplate,
+                                   TransactionTemplate transactionTemplate,
+                                   MeterRegistry meterRegistry) {
+        this.outboxRepository = outboxRepository;
+        this.restTemplate = restTemplate;
+        this.transactionTemplate = transactionTemplate;
+
+        Gauge.builder("complaint.notification.outbox.lag", lagSeconds, AtomicLong::get)
+                .description("Age of the oldest notification waiting in the outbox")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("complaint.notification.outbox.pending", pending, AtomicLong::get)
+                .description("Notifications waiting in the outbox")
+                .register(meterRegistry);
+        this.delivered = Counter.builder("complaint.notification.outbox.delivered").register(meterRegistry);
+        this.retried = Counter.builder("complaint.notification.outbox.retried").register(meterRegistry);
+        this.failed = Counter.builder("complaint.notification.outbox.failed").register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${complaint.outbox.poll-interval-ms:1000}")
+    public void relay() {
+        try {
+            for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+                List<NotificationOutbox> claimed = transactionTemplate.execute(status -> claimBatch());
+                if (claimed == null || claimed.isEmpty() || !deliver(claimed) || claimed.size() < batchSize) {
+                    break;
+                }
+            }
+            updateLag();
+        } catch (RuntimeException e) {
+            log.error("Error relaying notification outbox: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Lock the next due entries and push them past the claim window; the locks end with this transaction
+     */
+    private List<NotificationOutbox> claimBatch() {
+        List<NotificationOutbox> batch = outboxRepository.lockDue(LocalDateTime.now(), PageRequest.ofSize(batchSize));
+        LocalDateTime claimedUntil = LocalDateTime.now().plus(Duration.ofMillis(claimMs));
+        batch.forEach(entry -> entry.setNextAttemptAt(claimedUntil));
+        return batch;
+    }
+
+    /**
+     * Send a claimed batch and record the outcome; returns false when the Notification Service could not be reached
+     */
+    private boolean deliver(List<NotificationOutbox> batch) {
+        Map<?, ?> response;
+        try {
+            response = restTemplate.postForObject(NOTIFICATION_BATCH_URL, batch.stream().map(this::toPayload).toList(), Map.class);
+        } catch (RestClientException e) {
+            log.warn("Failed to relay {} notifications: {}", batch.size(), e.getMessage());
+            batch.forEach(entry -> scheduleRetry(entry, e.getMessage()));
+            transactionTemplate.executeWithoutResult(status -> outboxRepository.saveAll(batch));
+            return false;
+        }
+
+        // The Notification Service reports entries it refused (e.g. unknown user); retrying will not help
+        Set<Integer> rejected = rejectedIndexes(response);
+        List<NotificationOutbox> sent = new ArrayList<>(batch.size());
+        List<NotificationOutbox> refused = new ArrayList<>(rejected.size());
+        for (int i = 0; i < batch.size(); i++) {
+            if (rejected.contains(i)) {
+                giveUp(batch.get(i), "Rejected by Notification Service");
+                refused.add(batch.get(i));
+            } else {
+                sent.add(batch.get(i));
+            }
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            outboxRepository.deleteAllInBatch(sent);
+            outboxRepository.saveAll(refused);
+        });
+        delivered.increment(sent.size());
+        log.debug("Relayed {} notifications ({} rejected)", sent.size(), rejected.size());
+        return true;
+    }
+
+    private void scheduleRetry(NotificationOutbox entry, String error) {
+        entry.setAttempts(entry.getAttempts() + 1);
+        if (entry.getAttempts() >= maxAttempts) {
+            giveUp(entry, error);
+            return;
+        }
+        long backoff = Math.min(maxBackoffMs, initialBackoffMs << Math.min(entry.getAttempts() - 1, 20));
+        entry.setNextAttemptAt(LocalDateTime.now().plus(Duration.ofMillis(backoff)));
+        entry.setLastError(truncate(error));
+        retried.increment();
+    }
+
+    private void giveUp(NotificationOutbox entry, String error) {
+        log.error("Giving up on notification {} for user {}: {}", entry.getId(), entry.getUserId(), error);
+        entry.setStatus(NotificationOutbox.OutboxStatus.FAILED);
+        entry.setLastError(truncate(error));
+        failed.increment();
+    }
+
+    private void updateLag() {
+        LocalDateTime oldest = outboxRepository.findOldestPendingCreatedAt();
+        lagSeconds.set(oldest == null ? 0 : Math.max(0, Duration.between(oldest, LocalDateTime.now()).getSeconds()));
+        pending.set(outboxRepository.countByStatus(NotificationOutbox.OutboxStatus.PENDING));
+    }
+
+    private Map<String, Object> toPayload(NotificationOutbox entry) {
+        Map<String, Object> notification = new HashMap<>();
+        notification.put("userId", entry.getUserId());
+        notification.put("complaintId", entry.getComplaintId());
+        notification.put("message", entry.getMessage());
+        notification.put("type", entry.getType());
+        notification.put("isRead", false);
+        return notification;
+    }
+
+    private static Set<Integer> rejectedIndexes(Map<?, ?> response) {
+        Set<Integer> rejected = new HashSet<>();
+        if (response != null && response.get("rejected") instanceof List<?> indexes) {
+            for (Object index : indexes) {
+                rejected.add(((Number) index).intValue());
+            }
+        }
+        return rejected;
+    }
+
+    private static String truncate(String error) {
+        if (error == null) {
+            return null;
+        }
+        return error.length() <= MAX_ERROR_LENGTH ? error : error.substring(0, MAX_ERROR_LENGTH);
+    }
+}
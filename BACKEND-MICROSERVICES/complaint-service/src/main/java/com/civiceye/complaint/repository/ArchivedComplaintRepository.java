@@ -0,0 +1,44 @@
+package com.civiceye.complaint.repository;
+
+import com.civiceye.complaint.entity.ArchivedComplaint;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Archived Complaint Repository
+ * Data access layer for ArchivedComplaint entity
+ */
+@Repository
+public interface ArchivedComplaintRepository extends JpaRepository<ArchivedComplaint, Long> {
+
+    /**
+     * Find a page of archived complaints strictly after the (createdAt, id) position, newest first
+     */
+    @Query("SELECT a FROM ArchivedComplaint a " +
+           "WHERE a.createdAt < :createdAt OR (a.createdAt = :createdAt AND a.id < :id) " +
+           "ORDER BY a.createdAt DESC, a.id DESC")
+    List<ArchivedComplaint> findPage(@Param("createdAt") LocalDateTime createdAt,
+                                     @Param("id") Long id,
+                                     Pageable pageable);
+
+    /**
+     * Stream every archived complaint in ID order through a forward-only cursor,
+     * like ComplaintRepository.streamAll
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT a FROM ArchivedComplaint a ORDER BY a.id")
+    Stream<ArchivedComplaint> streamAll();
+}
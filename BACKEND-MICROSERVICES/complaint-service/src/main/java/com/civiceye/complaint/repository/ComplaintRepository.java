@@ -1,32 +1,144 @@
 package com.civiceye.complaint.repository;
 
+import com.civiceye.complaint.dto.ComplaintSummary;
 import com.civiceye.complaint.entity.Complaint;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Complaint Repository
  * Data access layer for Complaint entity
+ *
+ * List queries use keyset pagination: each returns the complaints strictly after
+ * the (createdAt, id) position, newest first, limited by the given Pageable.
+ * Filtered listings go through ComplaintRepositoryCustom.findPageMatching.
  */
 @Repository
-public interface ComplaintRepository extends JpaRepository<Complaint, Long> {
+public interface ComplaintRepository extends JpaRepository<Complaint, Long>, ComplaintRepositoryCustom {
 
     /**
-     * Find complaints by user ID
+     * Find a page of complaints
      */
-    List<Complaint> findByUserId(Long userId);
+    @Query("SELECT c FROM Complaint c " +
+           "WHERE c.createdAt < :createdAt OR (c.createdAt = :createdAt AND c.id < :id) " +
+           "ORDER BY c.createdAt DESC, c.id DESC")
+    List<Complaint> findPage(@Param("createdAt") LocalDateTime createdAt,
+                             @Param("id") Long id,
+                             Pageable pageable);
 
     /**
-     * Find complaints by status
+     * Find a page of complaint summaries by user ID
      */
-    List<Complaint> findByStatus(Complaint.ComplaintStatus status);
+    @Query("SELECT new com.civiceye.complaint.dto.ComplaintSummary(" +
+           "c.id, c.userId, c.title, c.category, c.status, c.address, c.reportCount, c.createdAt, c.updatedAt) " +
+           "FROM Complaint c WHERE c.userId = :userId " +
+           "AND (c.createdAt < :createdAt OR (c.createdAt = :createdAt AND c.id < :id)) " +
+           "ORDER BY c.createdAt DESC, c.id DESC")
+    List<ComplaintSummary> findSummaryPageByUserId(@Param("userId") Long userId,
+                                                   @Param("createdAt") LocalDateTime createdAt,
+                                                   @Param("id") Long id,
+                                                   Pageable pageable);
 
     /**
-     * Find complaints by category
+     * Find a page of complaints by user ID
      */
-    List<Complaint> findByCategory(String category);
+    @Query("SELECT c FROM Complaint c WHERE c.userId = :userId " +
+           "AND (c.createdAt < :createdAt OR (c.createdAt = :createdAt AND c.id < :id)) " +
+           "ORDER BY c.createdAt DESC, c.id DESC")
+    List<Complaint> findPageByUserId(@Param("userId") Long userId,
+                                     @Param("createdAt") LocalDateTime createdAt,
+                                     @Param("id") Long id,
+                                     Pageable pageable);
+
+    /**
+     * Stream every complaint in ID order through a forward-only cursor.
+     * The MIN_VALUE fetch size makes MySQL Connector/J stream rows instead of
+     * buffering the whole result; callers must close the stream inside a transaction.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT c FROM Complaint c ORDER BY c.id")
+    Stream<Complaint> streamAll();
+
+    /**
+     * Count one more citizen report against a complaint
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Complaint c SET c.reportCount = c.reportCount + 1, c.version = c.version + 1 WHERE c.id = :id")
+    int incrementReportCount(@Param("id") Long id);
+
+    /**
+     * Move a complaint to a new status only if it still has the expected one.
+     * Bulk JPQL updates skip @UpdateTimestamp and @Version, so both are set here.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Complaint c SET c.status = :status, c.updatedAt = :updatedAt, c.version = c.version + 1 " +
+           "WHERE c.id = :id AND c.status = :expectedStatus")
+    int transitionStatus(@Param("id") Long id,
+                         @Param("expectedStatus") Complaint.ComplaintStatus expectedStatus,
+                         @Param("status") Complaint.ComplaintStatus status,
+                         @Param("updatedAt") LocalDateTime updatedAt);
+
+    /**
+     * Move many complaints to a new status in one statement
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Complaint c SET c.status = :status, c.updatedAt = :updatedAt, c.version = c.version + 1 " +
+           "WHERE c.id IN :ids")
+    int updateStatusByIdIn(@Param("ids") Collection<Long> ids,
+                           @Param("status") Complaint.ComplaintStatus status,
+                           @Param("updatedAt") LocalDateTime updatedAt);
+
+    /**
+     * Find complaints by ID and lock their rows until the transaction ends
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM Complaint c WHERE c.id IN :ids")
+    List<Complaint> lockAllById(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Lock closed complaints last changed before the cutoff, skipping rows another archiver holds
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2")) // SKIP LOCKED
+    @Query("SELECT c FROM Complaint c WHERE c.status IN :statuses AND c.updatedAt < :cutoff ORDER BY c.id")
+    List<Complaint> lockArchivable(@Param("statuses") Collection<Complaint.ComplaintStatus> statuses,
+                                   @Param("cutoff") LocalDateTime cutoff,
+                                   Pageable pageable);
+
+    /**
+     * Copy complaints into the archive table in one statement
+     */
+    @Modifying
+    @Query(nativeQuery = true, value =
+            "INSERT INTO complaints_archive (id, user_id, title, description, category, status, latitude, longitude, " +
+            "address, report_count, version, created_at, updated_at, archived_at) " +
+            "SELECT id, user_id, title, description, category, status, latitude, longitude, " +
+            "address, report_count, version, created_at, updated_at, :archivedAt FROM complaints WHERE id IN (:ids)")
+    int copyToArchive(@Param("ids") Collection<Long> ids, @Param("archivedAt") LocalDateTime archivedAt);
+
+    /**
+     * Delete complaints in one statement
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Complaint c WHERE c.id IN :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<Long> ids);
 
     /**
      * Find complaints by user ID and status
@@ -0,0 +1,36 @@
+package com.civiceye.complaint.repository;
+
+import com.civiceye.complaint.dto.ComplaintFilter;
+import com.civiceye.complaint.dto.ComplaintSummary;
+import com.civiceye.complaint.entity.ArchivedComplaint;
+import com.civiceye.complaint.entity.Complaint;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Complaint Repository fragment for queries built at runtime
+ */
+public interface ComplaintRepositoryCustom {
+
+    /**
+     * Find a page of complaints matching every non-null criterion of the filter,
+     * strictly after the (createdAt, id) position, newest first
+     */
+    List<Complaint> findPageMatching(ComplaintFilter filter, LocalDateTime createdAt, Long id, int limit);
+
+    /**
+     * Same as findPageMatching, reading only the summary columns
+     */
+    List<ComplaintSummary> findSummaryPageMatching(ComplaintFilter filter, LocalDateTime createdAt, Long id, int limit);
+
+    /**
+     * Same as findPageMatching, over the archive table
+     */
+    List<ArchivedComplaint> findArchivedPageMatching(ComplaintFilter filter, LocalDateTime createdAt, Long id, int limit);
+
+    /**
+     * Same as findSummaryPageMatching, over the archive table
+     */
+    List<ComplaintSummary> findArchivedSummaryPageMatching(ComplaintFilter filter, LocalDateTime createdAt, Long id, int limit);
+}
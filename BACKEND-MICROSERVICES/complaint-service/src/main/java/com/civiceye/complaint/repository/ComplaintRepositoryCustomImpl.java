@@ -0,0 +1,119 @@
+package com.civiceye.complaint.repository;
+
+import com.civiceye.complaint.dto.ComplaintFilter;
+import com.civiceye.complaint.dto.ComplaintSummary;
+import com.civiceye.complaint.entity.ArchivedComplaint;
+import com.civiceye.complaint.entity.Complaint;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Criteria implementation of ComplaintRepositoryCustom.
+ * Only the given criteria end up in the WHERE clause, so MySQL can pick the
+ * composite index matching the combination (see Complaint's @Table indexes).
+ * The same queries run against the archive table for includeArchived listings.
+ */
+public class ComplaintRepositoryCustomImpl implements ComplaintRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Complaint> findPageMatching(ComplaintFilter filter, LocalDateTime createdAt, Long id, int limit) {
+        return entityPage(Complaint.class, filter, createdAt, id, limit);
+    }
+
+    @Override
+    public List<ComplaintSummary> findSummaryPageMatching(ComplaintFilter filter, LocalDateTime createdAt, Long id, int limit) {
+        return summaryPage(Complaint.class, filter, createdAt, id, limit);
+    }
+
+    @Override
+    public List<ArchivedComplaint> findArchivedPageMatching(ComplaintFilter filter, LocalDateTime createdAt, Long id, int limit) {
+        return entityPage(ArchivedComplaint.class, filter, createdAt, id, limit);
+    }
+
+    @Override
+    public List<ComplaintSummary> findArchivedSummaryPageMatching(ComplaintFilter filter, LocalDateTime createdAt, Long id, int limit) {
+        return summaryPage(ArchivedComplaint.class, filter, createdAt, id, limit);
+    }
+
+    /**
+     * Page of entities; Complaint and ArchivedComplaint share attribute names
+     */
+    private <E> List<E> entityPage(Class<E> entityClass, ComplaintFilter filter, LocalDateTime createdAt, Long id, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<E> query = cb.createQuery(entityClass);
+        Root<E> complaint = query.from(entityClass);
+        query.select(complaint);
+        return page(cb, query, complaint, filter, createdAt, id, limit);
+    }
+
+    private List<ComplaintSummary> summaryPage(Class<?> entityClass, ComplaintFilter filter, LocalDateTime createdAt, Long id, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<ComplaintSummary> query = cb.createQuery(ComplaintSummary.class);
+        Root<?> complaint = query.from(entityClass);
+        query.select(cb.construct(ComplaintSummary.class,
+                complaint.get("id"),
+                complaint.get("userId"),
+                complaint.get("title"),
+                complaint.get("category"),
+                complaint.get("status"),
+                complaint.get("address"),
+                complaint.get("reportCount"),
+                complaint.get("createdAt"),
+                complaint.get("updatedAt")));
+        return page(cb, query, complaint, filter, createdAt, id, limit);
+    }
+
+    /**
+     * Add the filter and keyset predicates and the ordering, then run the query for one page
+     */
+    private <T> List<T> page(CriteriaBuilder cb, CriteriaQuery<T> query, Root<?> complaint,
+                             ComplaintFilter filter, LocalDateTime createdAt, Long id, int limit) {
+        Path<LocalDateTime> createdAtPath = complaint.get("createdAt");
+        Path<Long> idPath = complaint.get("id");
+
+        List<Predicate> predicates = new ArrayList<>();
+        if (filter.getStatus() != null) {
+            predicates.add(cb.equal(complaint.get("status"), filter.getStatus()));
+        }
+        if (filter.getCategory() != null) {
+            predicates.add(cb.equal(complaint.get("category"), filter.getCategory()));
+        }
+        if (filter.getUserId() != null) {
+            predicates.add(cb.equal(complaint.get("userId"), filter.getUserId()));
+        }
+        if (filter.getFrom() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(createdAtPath, filter.getFrom()));
+        }
+        if (filter.getTo() != null) {
+            predicates.add(cb.lessThan(createdAtPath, filter.getTo()));
+        }
+        if (filter.hasBoundingBox()) {
+            predicates.add(cb.between(complaint.get("latitude"), filter.getMinLatitude(), filter.getMaxLatitude()));
+            predicates.add(cb.between(complaint.get("longitude"), filter.getMinLongitude(), filter.getMaxLongitude()));
+        }
+
+        // Keyset position
+        predicates.add(cb.or(
+                cb.lessThan(createdAtPath, createdAt),
+                cb.and(cb.equal(createdAtPath, createdAt), cb.lessThan(idPath, id))));
+
+        query.where(predicates.toArray(Predicate[]::new))
+                .orderBy(cb.desc(createdAtPath), cb.desc(idPath));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+}
@@ -0,0 +1,45 @@
+package com.civiceye.complaint.repository;
+
+import com.civiceye.complaint.entity.NotificationOutbox;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Notification Outbox Repository
+ * Data access layer for NotificationOutbox entity
+ */
+@Repository
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutbox, Long> {
+
+    /**
+     * Lock the oldest pending entries that are due, skipping rows another relay instance holds
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2")) // SKIP LOCKED
+    @Query("SELECT o FROM NotificationOutbox o " +
+           "WHERE o.status = com.civiceye.complaint.entity.NotificationOutbox.OutboxStatus.PENDING " +
+           "AND o.nextAttemptAt <= :now ORDER BY o.id")
+    List<NotificationOutbox> lockDue(@Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * Creation time of the oldest entry still waiting for delivery
+     */
+    @Query("SELECT MIN(o.createdAt) FROM NotificationOutbox o " +
+           "WHERE o.status = com.civiceye.complaint.entity.NotificationOutbox.OutboxStatus.PENDING")
+    LocalDateTime findOldestPendingCreatedAt();
+
+    /**
+     * Count entries by status
+     */
+    long countByStatus(NotificationOutbox.OutboxStatus status);
+}
@@ -0,0 +1,57 @@
+package com.civiceye.complaint.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Access Token Filter
+ * Verifies a bearer token on incoming requests and exposes it through AccessToken.current().
+ *
+ * Requests without a token pass through unchanged (services then fall back to asking
+ * User Service); a token that fails verification is answered with 401.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AccessTokenFilter extends OncePerRequestFilter {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final AccessTokenVerifier verifier;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String authorization = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (authorization == null || !authorization.regionMatches(true, 0, BEARER_PREFIX, 0, BEARER_PREFIX.length())) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        try {
+            AccessToken token = verifier.verify(authorization.substring(BEARER_PREFIX.length()).trim());
+            request.setAttribute(AccessToken.REQUEST_ATTRIBUTE, token);
+        } catch (IllegalArgumentException e) {
+            log.warn("Rejected access token on {}: {}", request.getRequestURI(), e.getMessage());
+            response.setStatus(HttpStatus.UNAUTHORIZED.value());
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            objectMapper.writeValue(response.getOutputStream(), Map.of("error", e.getMessage()));
+            return;
+        }
+        chain.doFilter(request, response);
+    }
+}
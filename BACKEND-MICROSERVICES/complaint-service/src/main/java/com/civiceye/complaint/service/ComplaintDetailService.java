@@ -0,0 +1,19 @@
+package com.civiceye.complaint.service;
+
+import com.civiceye.complaint.dto.ComplaintDetail;
+
+import java.util.Optional;
+
+/**
+ * Complaint Detail Service Interface
+ * Composes a complaint with the data other services hold about it
+ */
+public interface ComplaintDetailService {
+
+    /**
+     * Get a complaint with its user, media and notifications, fetched concurrently.
+     * Each dependency has its own timeout; one that fails or is late is left empty and
+     * listed in unavailable instead of failing the call. Empty if the complaint does not exist.
+     */
+    Optional<ComplaintDetail> getComplaintDetail(Long id);
+}
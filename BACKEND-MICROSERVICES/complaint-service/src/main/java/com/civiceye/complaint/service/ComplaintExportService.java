@@ -0,0 +1,20 @@
+package com.civiceye.complaint.service;
+
+import com.civiceye.complaint.dto.ExportFormat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Complaint Export Service Interface
+ * Bulk dump of the complaint dataset, e.g. for the open-data portal
+ */
+public interface ComplaintExportService {
+
+    /**
+     * Write every complaint to the stream, ordered by ID, without holding the dataset in memory.
+     * With includeArchived the archived complaints follow, also ordered by ID.
+     * Returns the number of complaints written.
+     */
+    long exportComplaints(OutputStream output, ExportFormat format, boolean includeArchived) throws IOException;
+}
@@ -0,0 +1,19 @@
+package com.civiceye.complaint.service;
+
+import com.civiceye.complaint.dto.ImportFormat;
+import com.civiceye.complaint.dto.ImportResult;
+
+import java.io.InputStream;
+
+/**
+ * Complaint Import Service Interface
+ * Bulk loading of complaints migrated from other systems
+ */
+public interface ComplaintImportService {
+
+    /**
+     * Read complaints from the stream and insert them in batches.
+     * Invalid rows are reported and skipped; valid rows are imported.
+     */
+    ImportResult importComplaints(InputStream input, ImportFormat format);
+}
@@ -1,20 +1,40 @@
 package com.civiceye.complaint.service;
 
+import com.civiceye.complaint.dto.BulkStatusUpdateResult;
+import com.civiceye.complaint.dto.ComplaintFilter;
+import com.civiceye.complaint.dto.ComplaintSearchResult;
+import com.civiceye.complaint.dto.ComplaintStats;
+import com.civiceye.complaint.dto.ComplaintSummary;
+import com.civiceye.complaint.dto.ComplaintSubmission;
+import com.civiceye.complaint.dto.CursorPage;
+import com.civiceye.complaint.dto.DuplicatePolicy;
+import com.civiceye.complaint.dto.HeatmapTile;
+import com.civiceye.complaint.dto.NearbyComplaint;
 import com.civiceye.complaint.entity.Complaint;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Complaint Service Interface
  * Business logic for complaint operations
+ *
+ * Listings are cursor-paginated: pass null as cursor for the first page and the
+ * returned nextCursor for the following ones. Size is capped by configuration.
  */
 public interface ComplaintService {
 
     /**
-     * Create a new complaint
+     * Create a new complaint, checking open complaints nearby for duplicates first.
+     * With REJECT, a DuplicateComplaintException carries the candidate IDs.
      */
-    Complaint createComplaint(Complaint complaint);
+    ComplaintSubmission createComplaint(Complaint complaint, DuplicatePolicy duplicatePolicy);
+
+    /**
+     * Attach another citizen's report to an existing complaint
+     */
+    Complaint attachReport(Long id, Long userId);
 
     /**
      * Get complaint by ID
@@ -22,24 +42,40 @@ public interface ComplaintService {
     Optional<Complaint> getComplaintById(Long id);
 
     /**
-     * Get all complaints
+     * Version of a complaint as last seen by this instance, without reading the database;
+     * null if not seen within the staleness bound
+     */
+    Long getKnownComplaintVersion(Long id);
+
+    /**
+     * Tag that changes whenever any complaint is written, used as the ETag of list responses
      */
-    List<Complaint> getAllComplaints();
+    String getCollectionVersion();
 
     /**
-     * Get complaints by user ID
+     * Get a page of all complaints
      */
-    List<Complaint> getComplaintsByUserId(Long userId);
+    CursorPage<Complaint> getAllComplaints(String cursor, Integer size);
 
     /**
-     * Get complaints by status
+     * Get a page of complaints by user ID
      */
-    List<Complaint> getComplaintsByStatus(Complaint.ComplaintStatus status);
+    CursorPage<Complaint> getComplaintsByUserId(Long userId, String cursor, Integer size);
 
     /**
-     * Get complaints by category
+     * Get a page of complaint summaries by user ID
      */
-    List<Complaint> getComplaintsByCategory(String category);
+    CursorPage<ComplaintSummary> getComplaintSummariesByUserId(Long userId, String cursor, Integer size);
+
+    /**
+     * Get a page of complaints matching every criterion set in the filter
+     */
+    CursorPage<Complaint> findComplaints(ComplaintFilter filter, String cursor, Integer size);
+
+    /**
+     * Get a page of complaint summaries matching every criterion set in the filter
+     */
+    CursorPage<ComplaintSummary> findComplaintSummaries(ComplaintFilter filter, String cursor, Integer size);
 
     /**
      * Update complaint
@@ -51,8 +87,44 @@ public interface ComplaintService {
      */
     Complaint updateComplaintStatus(Long id, Complaint.ComplaintStatus status);
 
+    /**
+     * Update complaint status only if it still has expectedStatus (null means the status read
+     * just before). Throws StatusConflictException if it changed in the meantime.
+     */
+    Complaint updateComplaintStatus(Long id, Complaint.ComplaintStatus expectedStatus, Complaint.ComplaintStatus status);
+
+    /**
+     * Move many complaints to one status in a single statement
+     */
+    BulkStatusUpdateResult updateComplaintStatuses(List<Long> ids, Complaint.ComplaintStatus status);
+
     /**
      * Delete complaint
      */
     void deleteComplaint(Long id);
+
+    /**
+     * Get complaints within radiusMeters of a point, nearest first.
+     * A null or empty statuses set matches every status.
+     */
+    List<NearbyComplaint> getNearbyComplaints(double latitude, double longitude, double radiusMeters,
+                                              Set<Complaint.ComplaintStatus> statuses, Integer limit);
+
+    /**
+     * Full-text search over title and description, best match first.
+     * Null status or category means no filter on that field.
+     */
+    List<ComplaintSearchResult> searchComplaints(String query, Complaint.ComplaintStatus status,
+                                                 String category, Integer limit);
+
+    /**
+     * Get complaint counts per grid cell for Web Mercator tile (z, x, y), from in-memory aggregates.
+     * Null status or category means no filter on that field.
+     */
+    HeatmapTile getHeatmapTile(int z, int x, int y, Complaint.ComplaintStatus status, String category);
+
+    /**
+     * Get complaint counts by status, category and day, served from in-memory counters
+     */
+    ComplaintStats getStatistics(Integer days);
 }
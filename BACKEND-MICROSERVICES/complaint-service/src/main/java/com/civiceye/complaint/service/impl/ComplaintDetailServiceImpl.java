@@ -0,0 +1,155 @@
+package com.civiceye.complaint.service.impl;
+
+import com.civiceye.complaint.client.MediaClient;
+import com.civiceye.complaint.client.NotificationClient;
+import com.civiceye.complaint.client.UserClient;
+import com.civiceye.complaint.dto.ComplaintDetail;
+import com.civiceye.complaint.dto.MediaDTO;
+import com.civiceye.complaint.dto.NotificationDTO;
+import com.civiceye.complaint.dto.UserDTO;
+import com.civiceye.complaint.entity.Complaint;
+import com.civiceye.complaint.service.ComplaintDetailService;
+import com.civiceye.complaint.service.ComplaintService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Complaint Detail Service Implementation
+ * Fans out to User, Media and Notification Service on a bounded pool.
+ *
+ * Media and notifications only need the complaint ID, so they are requested before
+ * the complaint is read; the user call follows once the complaint names its user.
+ * The response therefore costs about the slowest dependency, capped by its timeout.
+ * A dependency that fails, times out or finds the pool saturated is reported as
+ * unavailable; a timed-out call keeps its thread until the socket read timeout.
+ * The user call waits on a batched lookup (UserBatchClient) that uses the same timeouts.
+ */
+@Service
+@Slf4j
+public class ComplaintDetailServiceImpl implements ComplaintDetailService, DisposableBean {
+
+    static final String USER = "USER";
+    static final String MEDIA = "MEDIA";
+    static final String NOTIFICATIONS = "NOTIFICATIONS";
+
+    private final ComplaintService complaintService;
+    private final UserClient userClient;
+    private final MediaClient mediaClient;
+    private final NotificationClient notificationClient;
+    private final MeterRegistry meterRegistry;
+    private final ThreadPoolExecutor executor;
+
+    @Value("${complaint.detail.user-timeout-ms:300}")
+    private long userTimeoutMs;
+
+    @Value("${complaint.detail.media-timeout-ms:500}")
+    private long mediaTimeoutMs;
+
+    @Value("${complaint.detail.notifications-timeout-ms:500}")
+    private long notificationsTimeoutMs;
+
+    public ComplaintDetailServiceImpl(ComplaintService complaintService,
+                                      UserClient userClient,
+                                      MediaClient mediaClient,
+                                      NotificationClient notificationClient,
+                                      MeterRegistry meterRegistry,
+                                      @Value("${complaint.detail.threads:32}") int threads,
+                                      @Value("${complaint.detail.queue-capacity:256}") int queueCapacity) {
+        this.complaintService = complaintService;
+        this.userClient = userClient;
+        this.mediaClient = mediaClient;
+        this.notificationClient = notificationClient;
+        this.meterRegistry = meterRegistry;
+        AtomicInteger threadNumber = new AtomicInteger();
+        // A full queue rejects new calls rather than letting them wait past any timeout
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "complaint-detail-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    @Override
+    public Optional<ComplaintDetail> getComplaintDetail(Long id) {
+        log.info("Fetching complaint detail for ID: {}", id);
+
+        CompletableFuture<List<MediaDTO>> media =
+                call(() -> mediaClient.getMediaByComplaintId(id), mediaTimeoutMs);
+        CompletableFuture<List<NotificationDTO>> notifications =
+                call(() -> notificationClient.getNotificationsByComplaintId(id), notificationsTimeoutMs);
+
+        Optional<Complaint> found = complaintService.getComplaintById(id);
+        if (found.isEmpty()) {
+            media.cancel(true);
+            notifications.cancel(true);
+            return Optional.empty();
+        }
+        Complaint complaint = found.get();
+
+        CompletableFuture<Optional<UserDTO>> user =
+                call(() -> userClient.getUser(complaint.getUserId()), userTimeoutMs);
+
+        List<String> unavailable = new ArrayList<>();
+        ComplaintDetail detail = new ComplaintDetail(
+                complaint,
+                join(user, USER, Optional.<UserDTO>empty(), id, unavailable).orElse(null),
+                join(media, MEDIA, List.of(), id, unavailable),
+                join(notifications, NOTIFICATIONS, List.of(), id, unavailable),
+                unavailable);
+        return Optional.of(detail);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    private <T> CompletableFuture<T> call(Supplier<T> supplier, long timeoutMs) {
+        CompletableFuture<T> future;
+        try {
+            future = CompletableFuture.supplyAsync(supplier, executor);
+        } catch (RuntimeException e) {
+            // RejectedExecutionException: the pool is saturated
+            future = CompletableFuture.failedFuture(e);
+        }
+        return future.orTimeout(timeoutMs, TimeUnit.MILLISECONDS);
+    }
+
+    private <T> T join(CompletableFuture<T> future, String dependency, T fallback, Long complaintId,
+                       List<String> unavailable) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            if (cause instanceof TimeoutException) {
+                log.warn("{} for complaint {} timed out", dependency, complaintId);
+            } else {
+                log.warn("{} for complaint {} unavailable: {}", dependency, complaintId, cause.getMessage());
+            }
+            unavailable.add(dependency);
+            Counter.builder("complaint.detail.dependency.unavailable")
+                    .description("Complaint detail parts left out because a dependency failed or was late")
+                    .tag("dependency", dependency)
+                    .register(meterRegistry)
+                    .increment();
+            return fallback;
+        }
+    }
+}
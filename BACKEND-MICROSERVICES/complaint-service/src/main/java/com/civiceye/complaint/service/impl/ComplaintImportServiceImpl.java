@@ -0,0 +1,349 @@
+package com.civiceye.complaint.service.impl;
+
+import com.civiceye.complaint.client.UserClient;
+import com.civiceye.complaint.dto.ImportFormat;
+import com.civiceye.complaint.dto.ImportResult;
+import com.civiceye.complaint.entity.Complaint;
+import com.civiceye.complaint.event.ComplaintChangedEvent;
+import com.civiceye.complaint.event.ComplaintSnapshot;
+import com.civiceye.complaint.repository.ComplaintRepository;
+import com.civiceye.complaint.service.ComplaintImportService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Complaint Import Service Implementation
+ * Streams the payload record by record and inserts valid rows in chunked
+ * transactions, so memory stays bounded by the chunk size. Each chunk's
+ * users not seen earlier in the import are validated with one batch lookup,
+ * and no notifications are sent for migrated complaints. CSV records may
+ * span several lines inside quoted fields.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ComplaintImportServiceImpl implements ComplaintImportService {
+
+    private static final List<String> REQUIRED_CSV_COLUMNS = List.of("userId", "title", "description", "category");
+
+    private final ComplaintRepository complaintRepository;
+    private final UserClient userClient;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${complaint.import.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${complaint.import.max-reported-errors:1000}")
+    private int maxReportedErrors;
+
+    @Value("${complaint.import.max-record-chars:1000000}")
+    private int maxRecordChars;
+
+    @Override
+    public ImportResult importComplaints(InputStream input, ImportFormat format) {
+        log.info("Importing complaints from {} stream", format);
+        long started = System.currentTimeMillis();
+
+        ImportResult result = new ImportResult();
+        Map<Long, Boolean> knownUsers = new HashMap<>();
+        List<Row> chunk = new ArrayList<>(chunkSize);
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            RecordReader records = new RecordReader(reader, format == ImportFormat.CSV, maxRecordChars);
+            Map<String, Integer> columns = null;
+            String line;
+
+            while ((line = records.next()) != null) {
+                long lineNumber = records.recordLine();
+                if (line.isBlank()) {
+                    continue;
+                }
+                if (format == ImportFormat.CSV && columns == null) {
+                    columns = parseCsvHeader(line);
+                    continue;
+                }
+
+                result.setReceived(result.getReceived() + 1);
+                try {
+                    chunk.add(new Row(lineNumber, parseRow(line, format, columns)));
+                } catch (IllegalArgumentException e) {
+                    reject(result, lineNumber, e.getMessage());
+                }
+
+                if (chunk.size() >= chunkSize) {
+                    importChunk(chunk, knownUsers, result);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                importChunk(chunk, knownUsers, result);
+            }
+        } catch (IOException e) {
+            log.error("Error reading import stream: {}", e.getMessage());
+            throw new RuntimeException("Failed to read import: " + e.getMessage());
+        }
+
+        log.info("Imported {} of {} complaints ({} failed) in {} ms", result.getImported(), result.getReceived(),
+                result.getFailed(), System.currentTimeMillis() - started);
+        return result;
+    }
+
+    /**
+     * Helper method to turn one line into a validated, not yet persisted complaint
+     */
+    private Complaint parseRow(String line, ImportFormat format, Map<String, Integer> columns) {
+        Complaint complaint;
+        try {
+            complaint = format == ImportFormat.NDJSON
+                    ? objectMapper.readValue(line, Complaint.class)
+                    : fromCsv(columns, parseCsvLine(line));
+        } catch (IOException | RuntimeException e) {
+            throw new IllegalArgumentException("Unreadable row: " + e.getMessage());
+        }
+
+        complaint.setId(null);
+        complaint.setVersion(null);
+        complaint.setReportCount(1);
+        if (complaint.getStatus() == null) {
+            complaint.setStatus(Complaint.ComplaintStatus.PENDING);
+        }
+
+        Set<ConstraintViolation<Complaint>> violations = validator.validate(complaint);
+        if (!violations.isEmpty()) {
+            throw new IllegalArgumentException(violations.stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining("; ")));
+        }
+        return complaint;
+    }
+
+    /**
+     * Helper method to validate the chunk's users and insert the valid rows in one transaction.
+     * Users not seen earlier in the import are looked up together in one batch.
+     */
+    private void importChunk(List<Row> chunk, Map<Long, Boolean> knownUsers, ImportResult result) {
+        Set<Long> unknownUserIds = chunk.stream()
+                .map(row -> row.complaint().getUserId())
+                .filter(userId -> !knownUsers.containsKey(userId))
+                .collect(Collectors.toSet());
+        String lookupError = null;
+        if (!unknownUserIds.isEmpty()) {
+            try {
+                userClient.getUsers(unknownUserIds)
+                        .forEach((userId, user) -> knownUsers.put(userId, user.isPresent()));
+            } catch (RuntimeException e) {
+                lookupError = "Failed to validate user: " + e.getMessage();
+            }
+        }
+
+        List<Row> valid = new ArrayList<>(chunk.size());
+        for (Row row : chunk) {
+            Long userId = row.complaint().getUserId();
+            Boolean exists = knownUsers.get(userId);
+            if (exists == null) {
+                reject(result, row.line(), lookupError != null ? lookupError : "Failed to validate user: " + userId);
+            } else if (exists) {
+                valid.add(row);
+            } else {
+                reject(result, row.line(), "User not found with ID: " + userId);
+            }
+        }
+        if (valid.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                List<Complaint> saved = complaintRepository.saveAll(valid.stream().map(Row::complaint).toList());
+                complaintRepository.flush();
+                saved.forEach(complaint ->
+                        eventPublisher.publishEvent(ComplaintChangedEvent.created(ComplaintSnapshot.of(complaint))));
+            });
+            result.setImported(result.getImported() + valid.size());
+        } catch (RuntimeException e) {
+            log.error("Error inserting import chunk: {}", e.getMessage());
+            for (Row row : valid) {
+                reject(result, row.line(), "Batch insert failed: " + e.getMessage());
+            }
+        }
+    }
+
+    private void reject(ImportResult result, long line, String error) {
+        result.setFailed(result.getFailed() + 1);
+        if (result.getErrors().size() < maxReportedErrors) {
+            result.getErrors().add(new ImportResult.RowError(line, error));
+        }
+    }
+
+    private static Map<String, Integer> parseCsvHeader(String line) {
+        String[] names = parseCsvLine(line);
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < names.length; i++) {
+            columns.put(names[i].trim(), i);
+        }
+        for (String required : REQUIRED_CSV_COLUMNS) {
+            if (!columns.containsKey(required)) {
+                throw new IllegalArgumentException("CSV header is missing column: " + required);
+            }
+        }
+        return columns;
+    }
+
+    private static Complaint fromCsv(Map<String, Integer> columns, String[] values) {
+        Complaint complaint = new Complaint();
+        complaint.setUserId(Long.valueOf(value(columns, values, "userId")));
+        complaint.setTitle(value(columns, values, "title"));
+        complaint.setDescription(value(columns, values, "description"));
+        complaint.setCategory(value(columns, values, "category"));
+        complaint.setAddress(value(columns, values, "address"));
+
+        String status = value(columns, values, "status");
+        if (status != null) {
+            complaint.setStatus(Complaint.ComplaintStatus.valueOf(status.toUpperCase(Locale.ROOT)));
+        }
+        String latitude = value(columns, values, "latitude");
+        if (latitude != null) {
+            complaint.setLatitude(Double.valueOf(latitude));
+        }
+        String longitude = value(columns, values, "longitude");
+        if (longitude != null) {
+            complaint.setLongitude(Double.valueOf(longitude));
+        }
+        return complaint;
+    }
+
+    private static String value(Map<String, Integer> columns, String[] values, String column) {
+        Integer index = columns.get(column);
+        if (index == null || index >= values.length || values[index].isBlank()) {
+            return null;
+        }
+        return values[index].trim();
+    }
+
+    /**
+     * Split one RFC 4180 line: comma separated, double quotes around fields, "" for a quote
+     */
+    static String[] parseCsvLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c != '"') {
+                    field.append(c);
+                } else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields.toArray(new String[0]);
+    }
+
+    private record Row(long line, Complaint complaint) {
+    }
+
+    /**
+     * Reads one record per call: a line, or for CSV as many lines as it takes to close
+     * every quoted field, so quoted values may contain line breaks
+     */
+    static final class RecordReader {
+
+        private final BufferedReader reader;
+        private final boolean csv;
+        private final int maxRecordChars;
+        private long linesRead;
+        private long recordLine;
+
+        RecordReader(BufferedReader reader, boolean csv, int maxRecordChars) {
+            this.reader = reader;
+            this.csv = csv;
+            this.maxRecordChars = maxRecordChars;
+        }
+
+        /**
+         * Next record without its final line break, or null at the end of the input
+         */
+        String next() throws IOException {
+            String line = reader.readLine();
+            if (line == null) {
+                return null;
+            }
+            recordLine = ++linesRead;
+            if (!csv || quotesClosed(line)) {
+                return line;
+            }
+
+            StringBuilder record = new StringBuilder(line);
+            do {
+                String next = reader.readLine();
+                if (next == null) {
+                    // Unterminated quote: the record fails to parse and is reported on its first line
+                    break;
+                }
+                linesRead++;
+                record.append('\n').append(next);
+                if (record.length() > maxRecordChars) {
+                    throw new IllegalArgumentException("CSV record starting at line " + recordLine
+                            + " exceeds " + maxRecordChars + " characters; is a quote left open?");
+                }
+            } while (!quotesClosed(record));
+            return record.toString();
+        }
+
+        /**
+         * 1-based line number on which the last record started
+         */
+        long recordLine() {
+            return recordLine;
+        }
+
+        /**
+         * An escaped quote ("") counts twice, so an even count means no field is left open
+         */
+        private static boolean quotesClosed(CharSequence text) {
+            int quotes = 0;
+            for (int i = 0; i < text.length(); i++) {
+                if (text.charAt(i) == '"') {
+                    quotes++;
+                }
+            }
+            return quotes % 2 == 0;
+        }
+    }
+}
@@ -1,17 +1,58 @@
 package com.civiceye.complaint.service.impl;
 
+import com.civiceye.complaint.client.UserClient;
+import com.civiceye.complaint.dto.BulkStatusUpdateResult;
+import com.civiceye.complaint.dto.ComplaintCursor;
+import com.civiceye.complaint.dto.ComplaintFilter;
+import com.civiceye.complaint.dto.ComplaintSearchResult;
+import com.civiceye.complaint.dto.ComplaintStats;
+import com.civiceye.complaint.dto.ComplaintSummary;
+import com.civiceye.complaint.dto.ComplaintSubmission;
+import com.civiceye.complaint.dto.CursorPage;
+import com.civiceye.complaint.dto.DuplicatePolicy;
+import com.civiceye.complaint.dto.HeatmapTile;
+import com.civiceye.complaint.dto.NearbyComplaint;
 import com.civiceye.complaint.dto.UserDTO;
+import com.civiceye.complaint.entity.ArchivedComplaint;
 import com.civiceye.complaint.entity.Complaint;
+import com.civiceye.complaint.entity.NotificationOutbox;
+import com.civiceye.complaint.event.ComplaintChangedEvent;
+import com.civiceye.complaint.event.ComplaintSnapshot;
+import com.civiceye.complaint.exception.DuplicateComplaintException;
+import com.civiceye.complaint.exception.StatusConflictException;
+import com.civiceye.complaint.index.ComplaintDuplicateIndex;
+import com.civiceye.complaint.index.ComplaintHeatmap;
+import com.civiceye.complaint.index.ComplaintSpatialIndex;
+import com.civiceye.complaint.index.ComplaintStatistics;
+import com.civiceye.complaint.index.ComplaintTextIndex;
+import com.civiceye.complaint.index.ComplaintVersionRegistry;
+import com.civiceye.complaint.repository.ArchivedComplaintRepository;
 import com.civiceye.complaint.repository.ComplaintRepository;
+import com.civiceye.complaint.repository.NotificationOutboxRepository;
+import com.civiceye.complaint.security.AccessToken;
 import com.civiceye.complaint.service.ComplaintService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.client.RestTemplate;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Complaint Service Implementation
@@ -24,75 +65,173 @@ import java.util.Optional;
 public class ComplaintServiceImpl implements ComplaintService {
 
     private final ComplaintRepository complaintRepository;
-    private final RestTemplate restTemplate;
+    private final ArchivedComplaintRepository archivedComplaintRepository;
+    private final NotificationOutboxRepository outboxRepository;
+    private final UserClient userClient;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ComplaintSpatialIndex spatialIndex;
+    private final ComplaintDuplicateIndex duplicateIndex;
+    private final ComplaintTextIndex textIndex;
+    private final ComplaintStatistics statistics;
+    private final ComplaintHeatmap heatmap;
+    private final ComplaintVersionRegistry versionRegistry;
 
-    private static final String USER_SERVICE_URL = "http://USER-SERVICE/api/users";
-    private static final String NOTIFICATION_SERVICE_URL = "http://NOTIFICATION-SERVICE/api/notifications";
+    @Value("${complaint.pagination.default-size:20}")
+    private int defaultPageSize;
+
+    @Value("${complaint.pagination.max-size:100}")
+    private int maxPageSize;
+
+    @Value("${complaint.spatial.max-radius-meters:20000}")
+    private double maxNearbyRadiusMeters;
+
+    @Value("${complaint.duplicates.enabled:true}")
+    private boolean duplicatesEnabled;
+
+    @Value("${complaint.bulk.max-status-ids:1000}")
+    private int maxBulkStatusIds;
+
+    @Value("${complaint.stats.default-days:30}")
+    private int defaultStatsDays;
+
+    @Value("${complaint.stats.max-days:366}")
+    private int maxStatsDays;
 
     @Override
-    public Complaint createComplaint(Complaint complaint) {
+    public ComplaintSubmission createComplaint(Complaint complaint, DuplicatePolicy duplicatePolicy) {
         log.info("Creating new complaint for user ID: {}", complaint.getUserId());
 
-        // Validate user exists by calling User Service via RestTemplate
-        try {
-            String url = USER_SERVICE_URL + "/" + complaint.getUserId();
-            log.info("Calling User Service at: {}", url);
-            
-            UserDTO user = restTemplate.getForObject(url, UserDTO.class);
-            
-            if (user == null) {
-                throw new RuntimeException("User not found with ID: " + complaint.getUserId());
+        // Look for open complaints about the same problem before paying for the insert
+        if (duplicatesEnabled && duplicatePolicy != DuplicatePolicy.CREATE) {
+            List<Long> candidateIds = duplicateIndex.findCandidates(complaint);
+            if (!candidateIds.isEmpty()) {
+                log.info("Complaint from user {} resembles open complaints {}", complaint.getUserId(), candidateIds);
+                if (duplicatePolicy == DuplicatePolicy.ATTACH) {
+                    return new ComplaintSubmission(attachReport(candidateIds.get(0), complaint.getUserId()), true);
+                }
+                throw new DuplicateComplaintException(candidateIds);
             }
-            
-            log.info("User validated: {} ({})", user.getUsername(), user.getEmail());
-        } catch (Exception e) {
-            log.error("Error validating user: {}", e.getMessage());
-            throw new RuntimeException("Failed to validate user: " + e.getMessage());
         }
 
+        validateUser(complaint.getUserId());
+
+        complaint.setVersion(null);
+        complaint.setReportCount(1);
         Complaint savedComplaint = complaintRepository.save(complaint);
         log.info("Complaint created successfully with ID: {}", savedComplaint.getId());
+        eventPublisher.publishEvent(ComplaintChangedEvent.created(ComplaintSnapshot.of(savedComplaint)));
 
-        // Create notification for user (async call to Notification Service)
-        createNotificationForUser(complaint.getUserId(), savedComplaint.getId(), 
+        // Notify user once the complaint is committed
+        enqueueNotification(complaint.getUserId(), savedComplaint.getId(), 
             "Your complaint '" + savedComplaint.getTitle() + "' has been submitted successfully.");
 
-        return savedComplaint;
+        return new ComplaintSubmission(savedComplaint, false);
+    }
+
+    @Override
+    public Complaint attachReport(Long id, Long userId) {
+        log.info("Attaching report from user {} to complaint {}", userId, id);
+
+        validateUser(userId);
+
+        ComplaintSnapshot previous = complaintRepository.findById(id)
+                .map(ComplaintSnapshot::of)
+                .orElseThrow(() -> new RuntimeException("Complaint not found with ID: " + id));
+
+        if (complaintRepository.incrementReportCount(id) == 0) {
+            throw new RuntimeException("Complaint not found with ID: " + id);
+        }
+
+        Complaint complaint = complaintRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Complaint not found with ID: " + id));
+        log.info("Complaint {} now has {} reports", id, complaint.getReportCount());
+        eventPublisher.publishEvent(ComplaintChangedEvent.updated(previous, ComplaintSnapshot.of(complaint)));
+        return complaint;
     }
 
     @Override
     @Transactional(readOnly = true)
     public Optional<Complaint> getComplaintById(Long id) {
         log.info("Fetching complaint by ID: {}", id);
-        return complaintRepository.findById(id);
+        Optional<Complaint> complaint = complaintRepository.findById(id);
+        if (complaint.isEmpty()) {
+            // Closed complaints move to the archive after a while; same ID, read-only from then on
+            complaint = archivedComplaintRepository.findById(id).map(ArchivedComplaint::toComplaint);
+        }
+        complaint.ifPresent(found -> versionRegistry.remember(found.getId(), found.getVersion()));
+        return complaint;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Long getKnownComplaintVersion(Long id) {
+        return versionRegistry.knownVersion(id);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public String getCollectionVersion() {
+        return versionRegistry.collectionTag();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<Complaint> getAllComplaints(String cursor, Integer size) {
+        log.info("Fetching page of all complaints");
+        return fetchPage(cursor, size, ComplaintCursor::of, (position, pageable) ->
+                complaintRepository.findPage(position.getCreatedAt(), position.getId(), pageable));
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<Complaint> getAllComplaints() {
-        log.info("Fetching all complaints");
-        return complaintRepository.findAll();
+    public CursorPage<Complaint> getComplaintsByUserId(Long userId, String cursor, Integer size) {
+        log.info("Fetching page of complaints for user ID: {}", userId);
+        return fetchPage(cursor, size, ComplaintCursor::of, (position, pageable) ->
+                complaintRepository.findPageByUserId(userId, position.getCreatedAt(), position.getId(), pageable));
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<Complaint> getComplaintsByUserId(Long userId) {
-        log.info("Fetching complaints for user ID: {}", userId);
-        return complaintRepository.findByUserId(userId);
+    public CursorPage<ComplaintSummary> getComplaintSummariesByUserId(Long userId, String cursor, Integer size) {
+        log.info("Fetching page of complaint summaries for user ID: {}", userId);
+        return fetchPage(cursor, size, ComplaintCursor::of, (position, pageable) ->
+                complaintRepository.findSummaryPageByUserId(userId, position.getCreatedAt(), position.getId(), pageable));
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<Complaint> getComplaintsByStatus(Complaint.ComplaintStatus status) {
-        log.info("Fetching complaints by status: {}", status);
-        return complaintRepository.findByStatus(status);
+    public CursorPage<Complaint> findComplaints(ComplaintFilter filter, String cursor, Integer size) {
+        log.info("Fetching page of complaints matching: {}", filter);
+        validateFilter(filter);
+        return fetchPage(cursor, size, ComplaintCursor::of, (position, pageable) -> {
+            List<Complaint> hot = complaintRepository.findPageMatching(
+                    filter, position.getCreatedAt(), position.getId(), pageable.getPageSize());
+            if (!filter.isIncludeArchived()) {
+                return hot;
+            }
+            List<Complaint> archived = complaintRepository.findArchivedPageMatching(
+                    filter, position.getCreatedAt(), position.getId(), pageable.getPageSize()).stream()
+                    .map(ArchivedComplaint::toComplaint)
+                    .toList();
+            return mergeNewestFirst(hot, archived, ComplaintCursor::of, pageable.getPageSize());
+        });
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<Complaint> getComplaintsByCategory(String category) {
-        log.info("Fetching complaints by category: {}", category);
-        return complaintRepository.findByCategory(category);
+    public CursorPage<ComplaintSummary> findComplaintSummaries(ComplaintFilter filter, String cursor, Integer size) {
+        log.info("Fetching page of complaint summaries matching: {}", filter);
+        validateFilter(filter);
+        return fetchPage(cursor, size, ComplaintCursor::of, (position, pageable) -> {
+            List<ComplaintSummary> hot = complaintRepository.findSummaryPageMatching(
+                    filter, position.getCreatedAt(), position.getId(), pageable.getPageSize());
+            if (!filter.isIncludeArchived()) {
+                return hot;
+            }
+            List<ComplaintSummary> archived = complaintRepository.findArchivedSummaryPageMatching(
+                    filter, position.getCreatedAt(), position.getId(), pageable.getPageSize());
+            return mergeNewestFirst(hot, archived, ComplaintCursor::of, pageable.getPageSize());
+        });
     }
 
     @Override
@@ -101,6 +240,7 @@ public class ComplaintServiceImpl implements ComplaintService {
 
         Complaint existingComplaint = complaintRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Complaint not found with ID: " + id));
+        ComplaintSnapshot previous = ComplaintSnapshot.of(existingComplaint);
 
         // Update fields
         if (complaint.getTitle() != null) {
@@ -122,63 +262,296 @@ public class ComplaintServiceImpl implements ComplaintService {
             existingComplaint.setAddress(complaint.getAddress());
         }
 
-        Complaint updatedComplaint = complaintRepository.save(existingComplaint);
+        // Flush now so the snapshot carries the new version and updatedAt
+        Complaint updatedComplaint = complaintRepository.saveAndFlush(existingComplaint);
         log.info("Complaint updated successfully: {}", updatedComplaint.getId());
+        eventPublisher.publishEvent(ComplaintChangedEvent.updated(previous, ComplaintSnapshot.of(updatedComplaint)));
         return updatedComplaint;
     }
 
     @Override
     public Complaint updateComplaintStatus(Long id, Complaint.ComplaintStatus status) {
+        return updateComplaintStatus(id, null, status);
+    }
+
+    @Override
+    public Complaint updateComplaintStatus(Long id, Complaint.ComplaintStatus expectedStatus, Complaint.ComplaintStatus status) {
         log.info("Updating complaint status for ID: {} to {}", id, status);
 
         Complaint complaint = complaintRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Complaint not found with ID: " + id));
 
+        ComplaintSnapshot previous = ComplaintSnapshot.of(complaint);
         Complaint.ComplaintStatus oldStatus = complaint.getStatus();
-        complaint.setStatus(status);
+        if (expectedStatus != null && expectedStatus != oldStatus) {
+            throw new StatusConflictException(id, expectedStatus, oldStatus);
+        }
 
-        Complaint updatedComplaint = complaintRepository.save(complaint);
+        // Compare-and-set: a concurrent transition between the read and here makes this a no-op
+        LocalDateTime now = LocalDateTime.now();
+        if (complaintRepository.transitionStatus(id, oldStatus, status, now) == 0) {
+            Complaint.ComplaintStatus currentStatus = complaintRepository.findById(id)
+                    .map(Complaint::getStatus)
+                    .orElseThrow(() -> new RuntimeException("Complaint not found with ID: " + id));
+            throw new StatusConflictException(id, oldStatus, currentStatus);
+        }
+
+        // The update cleared the persistence context, so this only changes the detached copy we return
+        complaint.setStatus(status);
+        complaint.setUpdatedAt(now);
+        complaint.setVersion(complaint.getVersion() + 1);
         log.info("Complaint status updated from {} to {}", oldStatus, status);
+        eventPublisher.publishEvent(ComplaintChangedEvent.statusChanged(previous, ComplaintSnapshot.of(complaint)));
 
-        // Notify user about status change via Notification Service
-        createNotificationForUser(complaint.getUserId(), complaint.getId(),
+        // Notify user about status change once it is committed
+        enqueueNotification(complaint.getUserId(), complaint.getId(),
             "Your complaint '" + complaint.getTitle() + "' status changed to: " + status);
 
-        return updatedComplaint;
+        return complaint;
+    }
+
+    @Override
+    public BulkStatusUpdateResult updateComplaintStatuses(List<Long> ids, Complaint.ComplaintStatus status) {
+        List<Long> distinctIds = ids.stream().distinct().toList();
+        log.info("Updating status of {} complaints to {}", distinctIds.size(), status);
+        if (distinctIds.size() > maxBulkStatusIds) {
+            throw new IllegalArgumentException("At most " + maxBulkStatusIds + " complaints can be updated at once");
+        }
+
+        // Lock the rows so the snapshots below stay true until the update commits
+        Map<Long, Complaint> found = complaintRepository.lockAllById(distinctIds).stream()
+                .collect(Collectors.toMap(Complaint::getId, Function.identity()));
+
+        List<Complaint> changed = new ArrayList<>();
+        List<Long> unchanged = new ArrayList<>();
+        List<Long> notFound = new ArrayList<>();
+        for (Long id : distinctIds) {
+            Complaint complaint = found.get(id);
+            if (complaint == null) {
+                notFound.add(id);
+            } else if (complaint.getStatus() == status) {
+                unchanged.add(id);
+            } else {
+                changed.add(complaint);
+            }
+        }
+
+        List<Long> updated = changed.stream().map(Complaint::getId).toList();
+        if (!changed.isEmpty()) {
+            LocalDateTime now = LocalDateTime.now();
+            List<ComplaintSnapshot> previous = changed.stream().map(ComplaintSnapshot::of).toList();
+            complaintRepository.updateStatusByIdIn(updated, status, now);
+
+            List<NotificationOutbox> notifications = new ArrayList<>(changed.size());
+            for (int i = 0; i < changed.size(); i++) {
+                Complaint complaint = changed.get(i);
+                complaint.setStatus(status);
+                complaint.setUpdatedAt(now);
+                complaint.setVersion(complaint.getVersion() + 1);
+                eventPublisher.publishEvent(ComplaintChangedEvent.statusChanged(previous.get(i), ComplaintSnapshot.of(complaint)));
+                notifications.add(new NotificationOutbox(complaint.getUserId(), complaint.getId(),
+                        "Your complaint '" + complaint.getTitle() + "' status changed to: " + status, "COMPLAINT_UPDATE"));
+            }
+            outboxRepository.saveAll(notifications);
+        }
+
+        log.info("Bulk status update to {}: {} updated, {} unchanged, {} not found",
+                status, updated.size(), unchanged.size(), notFound.size());
+        return new BulkStatusUpdateResult(status, updated, unchanged, notFound);
     }
 
     @Override
     public void deleteComplaint(Long id) {
         log.info("Deleting complaint with ID: {}", id);
 
-        if (!complaintRepository.existsById(id)) {
-            throw new RuntimeException("Complaint not found with ID: " + id);
-        }
+        Complaint complaint = complaintRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Complaint not found with ID: " + id));
 
-        complaintRepository.deleteById(id);
+        complaintRepository.delete(complaint);
         log.info("Complaint deleted successfully: {}", id);
+        eventPublisher.publishEvent(ComplaintChangedEvent.deleted(ComplaintSnapshot.of(complaint)));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<NearbyComplaint> getNearbyComplaints(double latitude, double longitude, double radiusMeters,
+                                                     Set<Complaint.ComplaintStatus> statuses, Integer limit) {
+        log.info("Fetching complaints within {} m of ({}, {}) with status {}", radiusMeters, latitude, longitude, statuses);
+
+        if (latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180) {
+            throw new IllegalArgumentException("Coordinates out of range: " + latitude + ", " + longitude);
+        }
+        if (radiusMeters <= 0 || radiusMeters > maxNearbyRadiusMeters) {
+            throw new IllegalArgumentException("Radius must be between 0 and " + maxNearbyRadiusMeters + " metres");
+        }
+
+        List<ComplaintSpatialIndex.Hit> hits = spatialIndex.findWithin(latitude, longitude, radiusMeters, statuses);
+        hits = hits.subList(0, Math.min(hits.size(), resolvePageSize(limit)));
+
+        Map<Long, Complaint> complaints = findAllById(hits.stream().map(hit -> hit.getEntry().getId()).toList());
+
+        List<NearbyComplaint> result = new ArrayList<>(hits.size());
+        for (ComplaintSpatialIndex.Hit hit : hits) {
+            Complaint complaint = complaints.get(hit.getEntry().getId());
+            if (complaint != null) {
+                result.add(new NearbyComplaint(hit.getDistanceMeters(), complaint));
+            }
+        }
+        return result;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ComplaintSearchResult> searchComplaints(String query, Complaint.ComplaintStatus status,
+                                                        String category, Integer limit) {
+        log.info("Searching complaints for '{}' (status: {}, category: {})", query, status, category);
+
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("Search query is required");
+        }
+
+        List<ComplaintTextIndex.Hit> hits = textIndex.search(query, status, category, resolvePageSize(limit));
+        Map<Long, Complaint> complaints = findAllById(hits.stream().map(ComplaintTextIndex.Hit::getId).toList());
+
+        List<ComplaintSearchResult> result = new ArrayList<>(hits.size());
+        for (ComplaintTextIndex.Hit hit : hits) {
+            Complaint complaint = complaints.get(hit.getId());
+            if (complaint != null) {
+                result.add(new ComplaintSearchResult(hit.getScore(), complaint));
+            }
+        }
+        return result;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public HeatmapTile getHeatmapTile(int z, int x, int y, Complaint.ComplaintStatus status, String category) {
+        if (z < 0 || z > ComplaintHeatmap.MAX_ZOOM) {
+            throw new IllegalArgumentException("Zoom must be between 0 and " + ComplaintHeatmap.MAX_ZOOM);
+        }
+        int tiles = 1 << z;
+        if (x < 0 || x >= tiles || y < 0 || y >= tiles) {
+            throw new IllegalArgumentException("Tile " + x + "/" + y + " does not exist at zoom " + z);
+        }
+        return heatmap.tile(z, x, y, status, category);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ComplaintStats getStatistics(Integer days) {
+        int window = days == null ? defaultStatsDays : days;
+        if (window < 1 || window > maxStatsDays) {
+            throw new IllegalArgumentException("Days must be between 1 and " + maxStatsDays);
+        }
+        return statistics.snapshot(window);
+    }
+
+    /**
+     * Helper method to load index hits by ID; callers restore the index order
+     */
+    private Map<Long, Complaint> findAllById(List<Long> ids) {
+        return complaintRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Complaint::getId, Function.identity()));
     }
 
     /**
-     * Helper method to create notification via Notification Service
+     * Helper method to validate the user exists: a verified access token for that user
+     * proves it locally, anyone else is looked up through the cached User Service client
      */
-    private void createNotificationForUser(Long userId, Long complaintId, String message) {
+    private void validateUser(Long userId) {
+        if (AccessToken.isCaller(userId)) {
+            log.info("User {} validated by access token", userId);
+            return;
+        }
         try {
-            log.info("Creating notification for user {} about complaint {}", userId, complaintId);
-            
-            // Create notification DTO
-            var notification = new java.util.HashMap<String, Object>();
-            notification.put("userId", userId);
-            notification.put("complaintId", complaintId);
-            notification.put("message", message);
-            notification.put("type", "COMPLAINT_UPDATE");
-            notification.put("isRead", false);
-
-            restTemplate.postForObject(NOTIFICATION_SERVICE_URL, notification, Object.class);
-            log.info("Notification created successfully");
+            UserDTO user = userClient.getUser(userId)
+                    .orElseThrow(() -> new RuntimeException("User not found with ID: " + userId));
+
+            log.info("User validated: {} ({})", user.getUsername(), user.getEmail());
         } catch (Exception e) {
-            // Don't fail the main operation if notification fails
-            log.error("Failed to create notification: {}", e.getMessage());
+            log.error("Error validating user: {}", e.getMessage());
+            throw new RuntimeException("Failed to validate user: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Helper method to reject filters that cannot match anything or would scan the whole table
+     */
+    private void validateFilter(ComplaintFilter filter) {
+        if (filter.getFrom() != null && filter.getTo() != null && !filter.getFrom().isBefore(filter.getTo())) {
+            throw new IllegalArgumentException("'from' must be before 'to'");
+        }
+        if (!filter.hasBoundingBox()) {
+            return;
+        }
+        if (filter.getMinLatitude() == null || filter.getMaxLatitude() == null
+                || filter.getMinLongitude() == null || filter.getMaxLongitude() == null) {
+            throw new IllegalArgumentException("Bounding box needs minLat, maxLat, minLng and maxLng");
+        }
+        if (filter.getMinLatitude() < -90 || filter.getMaxLatitude() > 90
+                || filter.getMinLongitude() < -180 || filter.getMaxLongitude() > 180) {
+            throw new IllegalArgumentException("Bounding box out of range");
+        }
+        // Boxes crossing the antimeridian are not supported
+        if (filter.getMinLatitude() > filter.getMaxLatitude() || filter.getMinLongitude() > filter.getMaxLongitude()) {
+            throw new IllegalArgumentException("Bounding box minimum must not exceed maximum");
+        }
+    }
+
+    /**
+     * Helper method to run a keyset query for one page.
+     * Fetches one row more than requested to learn whether a next page exists.
+     */
+    private <T> CursorPage<T> fetchPage(String cursor, Integer size, Function<T, ComplaintCursor> positionOf,
+                                        BiFunction<ComplaintCursor, Pageable, List<T>> query) {
+        ComplaintCursor position = ComplaintCursor.decode(cursor);
+        int pageSize = resolvePageSize(size);
+
+        List<T> rows = query.apply(position, PageRequest.ofSize(pageSize + 1));
+
+        boolean hasMore = rows.size() > pageSize;
+        List<T> items = hasMore ? new ArrayList<>(rows.subList(0, pageSize)) : rows;
+        String nextCursor = hasMore ? positionOf.apply(items.get(items.size() - 1)).encode() : null;
+        return new CursorPage<>(items, items.size(), nextCursor, null);
+    }
+
+    /**
+     * Helper method to merge two keyset pages (hot and archive) into one, newest first.
+     * Both tables share the ID sequence, so (createdAt, id) stays a total order; an ID seen
+     * in both (read while being archived) is kept once, from the first list.
+     */
+    static <T> List<T> mergeNewestFirst(List<T> first, List<T> second,
+                                        Function<T, ComplaintCursor> positionOf, int limit) {
+        if (second.isEmpty()) {
+            return first;
         }
+        Comparator<T> newestFirst = Comparator
+                .comparing((T row) -> positionOf.apply(row).getCreatedAt(), Comparator.reverseOrder())
+                .thenComparing(row -> positionOf.apply(row).getId(), Comparator.reverseOrder());
+        Set<Long> seen = new HashSet<>();
+        return Stream.concat(first.stream(), second.stream())
+                .sorted(newestFirst)
+                .filter(row -> seen.add(positionOf.apply(row).getId()))
+                .limit(limit)
+                .toList();
+    }
+
+    private int resolvePageSize(Integer size) {
+        if (size == null) {
+            return defaultPageSize;
+        }
+        if (size < 1) {
+            throw new IllegalArgumentException("Page size must be positive");
+        }
+        return Math.min(size, maxPageSize);
+    }
+
+    /**
+     * Helper method to queue a notification in the outbox, in the caller's transaction.
+     * NotificationOutboxRelay delivers it to the Notification Service after commit.
+     */
+    private void enqueueNotification(Long userId, Long complaintId, String message) {
+        log.info("Queueing notification for user {} about complaint {}", userId, complaintId);
+        outboxRepository.save(new NotificationOutbox(userId, complaintId, message, "COMPLAINT_UPDATE"));
     }
 }
@@ -0,0 +1,416 @@
+package com.civiceye.complaint.stream;
+
+import com.civiceye.complaint.dto.ComplaintFeedEvent;
+import com.civiceye.complaint.dto.ComplaintFilter;
+import com.civiceye.complaint.event.ComplaintChangedEvent;
+import com.civiceye.complaint.event.ComplaintSnapshot;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Complaint Change Feed
+ * Pushes committed complaint changes to server-sent event subscribers.
+ *
+ * Each change gets a sequence number and is kept in a ring buffer, so a client
+ * reconnecting with Last-Event-ID receives what it missed. The writer only
+ * offers the event to each subscriber's bounded queue; a pool of sender threads
+ * drains the queues to the sockets. A subscriber whose queue is full, or that
+ * resumes from further back than its queue holds, catches up by reading the
+ * ring buffer from its position, so a burst never costs it its connection. Only
+ * when the buffer has moved past that position is it told to reload.
+ *
+ * A send blocked on a stalled socket keeps its sender thread until the write
+ * fails. Subscribers whose send takes longer than send-timeout-ms are dropped,
+ * and the pool gets a thread in place of the blocked one until it returns.
+ *
+ * Event IDs are "epoch-sequence". A new subscription first gets a "ready" event
+ * carrying the current position. The epoch changes on every start, and IDs from
+ * another instance or an earlier run get a "reset" event telling the client to reload.
+ */
+@Component
+@Slf4j
+public class ComplaintChangeFeed implements DisposableBean {
+
+    private static final Object HEARTBEAT = new Object();
+    private static final long STALLED = -1;
+
+    private final long epoch = System.currentTimeMillis();
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final ThreadPoolExecutor senders;
+    private final Counter dropped;
+    private final Counter resets;
+
+    // Ring buffer of recent events, guarded by this; sequence numbers start at 1
+    private final FeedEntry[] history;
+    private long lastSequence;
+
+    @Value("${complaint.stream.max-subscribers:1000}")
+    private int maxSubscribers;
+
+    @Value("${complaint.stream.queue-capacity:256}")
+    private int queueCapacity;
+
+    @Value("${complaint.stream.timeout-ms:1800000}")
+    private long timeoutMs;
+
+    @Value("${complaint.stream.send-timeout-ms:10000}")
+    private long sendTimeoutMs;
+
+    public ComplaintChangeFeed(@Value("${complaint.stream.history-size:4096}") int historySize,
+                               @Value("${complaint.stream.sender-threads:8}") int senderThreads,
+                               MeterRegistry meterRegistry) {
+        this.history = new FeedEntry[historySize];
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.senders = new ThreadPoolExecutor(senderThreads, senderThreads, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "complaint-feed-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        Gauge.builder("complaint.stream.subscribers", subscriberCount, AtomicInteger::get)
+                .description("Open complaint change feed connections")
+                .register(meterRegistry);
+        this.dropped = Counter.builder("complaint.stream.dropped")
+                .description("Subscribers disconnected because a send stalled")
+                .register(meterRegistry);
+        this.resets = Counter.builder("complaint.stream.resets")
+                .description("Subscribers told to reload because they fell behind the history buffer")
+                .register(meterRegistry);
+    }
+
+    @TransactionalEventListener
+    public void onComplaintChanged(ComplaintChangedEvent event) {
+        ComplaintSnapshot latest = event.latest();
+        ComplaintFeedEvent payload = new ComplaintFeedEvent(event.getType().name(), latest,
+                event.getType() == ComplaintChangedEvent.Type.STATUS_CHANGED ? event.getPrevious().getStatus() : null);
+
+        // Appending and fanning out under one lock keeps every queue in sequence order;
+        // offers never block, so the critical section stays short
+        synchronized (this) {
+            FeedEntry entry = new FeedEntry(++lastSequence, null, event.getPrevious(), event.getCurrent(), payload);
+            history[(int) (entry.sequence() % history.length)] = entry;
+            for (Subscriber subscriber : subscribers) {
+                if (subscriber.accepts(entry)) {
+                    subscriber.enqueue(entry);
+                }
+            }
+        }
+    }
+
+    /**
+     * Open a subscription; lastEventId may be null for a fresh start
+     */
+    public SseEmitter subscribe(ComplaintFilter filter, String lastEventId) {
+        if (subscriberCount.get() >= maxSubscribers) {
+            throw new IllegalStateException("Too many complaint stream subscribers");
+        }
+        SseEmitter emitter = newEmitter();
+        Subscriber subscriber = new Subscriber(emitter, filter, new ArrayBlockingQueue<>(queueCapacity));
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(error -> remove(subscriber));
+
+        synchronized (this) {
+            Long resumeFrom = resumePosition(lastEventId);
+            if (resumeFrom == null) {
+                subscriber.enqueue(FeedEntry.control("reset", lastSequence));
+            } else {
+                subscriber.enqueue(FeedEntry.control("ready", resumeFrom));
+                // The missed events are read from the buffer by the sender, however many there are
+                subscriber.startCatchUp(resumeFrom + 1);
+            }
+            subscribers.add(subscriber);
+            subscriberCount.incrementAndGet();
+        }
+        log.info("Complaint stream subscriber added ({} open)", subscriberCount.get());
+        return emitter;
+    }
+
+    /**
+     * Comment line that keeps idle connections open through proxies
+     */
+    @Scheduled(fixedDelayString = "${complaint.stream.heartbeat-ms:15000}")
+    public void heartbeat() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.enqueueHeartbeat();
+        }
+    }
+
+    /**
+     * Drop subscribers whose current send has been blocked longer than send-timeout-ms.
+     * Their sender thread stays blocked until the write fails, so the pool gets one more
+     * thread meanwhile and the other subscribers keep being served.
+     */
+    @Scheduled(fixedDelayString = "${complaint.stream.stall-check-ms:1000}")
+    public void dropStalled() {
+        long now = System.currentTimeMillis();
+        for (Subscriber subscriber : subscribers) {
+            long started = subscriber.sendStarted.get();
+            if (started > 0 && now - started > sendTimeoutMs && subscriber.stall(started)) {
+                remove(subscriber);
+                dropped.increment();
+                log.warn("Complaint stream send stalled for {} ms, disconnecting", now - started);
+                resizeSenders(1);
+            }
+        }
+    }
+
+    @Override
+    public void destroy() {
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        senders.shutdownNow();
+    }
+
+    /**
+     * Sequence to resume after, or null when the client must start over; caller holds the lock
+     */
+    private Long resumePosition(String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return lastSequence;
+        }
+        int separator = lastEventId.indexOf('-');
+        try {
+            long idEpoch = Long.parseLong(lastEventId.substring(0, separator));
+            long sequence = Long.parseLong(lastEventId.substring(separator + 1));
+            boolean buffered = sequence >= lastSequence - history.length && sequence <= lastSequence;
+            return idEpoch == epoch && buffered ? sequence : null;
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    SseEmitter newEmitter() {
+        return new SseEmitter(timeoutMs);
+    }
+
+    private void resizeSenders(int delta) {
+        synchronized (senders) {
+            // The maximum may never drop below the core size
+            if (delta > 0) {
+                senders.setMaximumPoolSize(senders.getMaximumPoolSize() + delta);
+                senders.setCorePoolSize(senders.getCorePoolSize() + delta);
+            } else {
+                senders.setCorePoolSize(senders.getCorePoolSize() + delta);
+                senders.setMaximumPoolSize(senders.getMaximumPoolSize() + delta);
+            }
+        }
+    }
+
+    private void remove(Subscriber subscriber) {
+        if (subscribers.remove(subscriber)) {
+            subscriberCount.decrementAndGet();
+            log.info("Complaint stream subscriber removed ({} open)", subscriberCount.get());
+        }
+    }
+
+    private String eventId(long sequence) {
+        return epoch + "-" + sequence;
+    }
+
+    /**
+     * One buffered change, or a control event (ready, reset) that carries only a position.
+     * The snapshots are kept for filtering.
+     */
+    private record FeedEntry(long sequence, String control, ComplaintSnapshot previous, ComplaintSnapshot current,
+                             ComplaintFeedEvent payload) {
+
+        static FeedEntry control(String name, long sequence) {
+            return new FeedEntry(sequence, name, null, null, null);
+        }
+    }
+
+    /**
+     * One connection with its filter, bounded queue and drain state
+     */
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final ComplaintFilter filter;
+        private final Queue<Object> queue;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        // Start of the send in progress, 0 when idle, STALLED once dropStalled() took it over
+        private final AtomicLong sendStarted = new AtomicLong();
+        private volatile boolean closed;
+
+        // Next buffered sequence to send, or 0 while the queue is in use; written under the feed lock
+        private volatile long catchUpFrom;
+
+        Subscriber(SseEmitter emitter, ComplaintFilter filter, Queue<Object> queue) {
+            this.emitter = emitter;
+            this.filter = filter;
+            this.queue = queue;
+        }
+
+        /**
+         * Updates match if the complaint matched before or after, so clients see it leave their view
+         */
+        boolean accepts(FeedEntry entry) {
+            return matches(entry.previous()) || matches(entry.current());
+        }
+
+        private boolean matches(ComplaintSnapshot complaint) {
+            if (complaint == null) {
+                return false;
+            }
+            if (filter.getStatus() != null && filter.getStatus() != complaint.getStatus()) {
+                return false;
+            }
+            if (filter.getCategory() != null && !Objects.equals(filter.getCategory(), complaint.getCategory())) {
+                return false;
+            }
+            if (filter.hasBoundingBox()) {
+                return complaint.hasLocation()
+                        && complaint.getLatitude() >= filter.getMinLatitude() && complaint.getLatitude() <= filter.getMaxLatitude()
+                        && complaint.getLongitude() >= filter.getMinLongitude() && complaint.getLongitude() <= filter.getMaxLongitude();
+            }
+            return true;
+        }
+
+        /**
+         * Queue an event; caller holds the feed lock
+         */
+        void enqueue(FeedEntry entry) {
+            if (closed || catchUpFrom != 0) {
+                // Catching up: the sender reads this one from the buffer
+                return;
+            }
+            if (!queue.offer(entry)) {
+                // Too slow for the queue: continue from the buffer once the queue is sent
+                catchUpFrom = entry.sequence();
+            }
+            scheduleDrain();
+        }
+
+        /**
+         * Send the buffered events from this sequence on before any new ones; caller holds the feed lock
+         */
+        void startCatchUp(long sequence) {
+            if (sequence <= lastSequence) {
+                catchUpFrom = sequence;
+                scheduleDrain();
+            }
+        }
+
+        /**
+         * Mark the send that started at this time as stalled; false if it has finished since
+         */
+        boolean stall(long started) {
+            if (!sendStarted.compareAndSet(started, STALLED)) {
+                return false;
+            }
+            closed = true;
+            return true;
+        }
+
+        void enqueueHeartbeat() {
+            if (!closed && queue.offer(HEARTBEAT)) {
+                scheduleDrain();
+            }
+        }
+
+        private void scheduleDrain() {
+            if (draining.compareAndSet(false, true)) {
+                senders.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                Object item;
+                // Queued items all precede the buffered ones, except heartbeats
+                while (!closed && ((item = queue.poll()) != null || (item = nextBuffered()) != null)) {
+                    long started = System.currentTimeMillis();
+                    sendStarted.set(started);
+                    try {
+                        send(item);
+                    } finally {
+                        if (!sendStarted.compareAndSet(started, 0)) {
+                            // Dropped by dropStalled(), which added a thread in place of this one
+                            resizeSenders(-1);
+                            emitter.complete();
+                        }
+                    }
+                }
+            } catch (IOException | IllegalStateException e) {
+                closed = true;
+                remove(this);
+            } finally {
+                draining.set(false);
+            }
+            // An item offered, or a catch-up started, after the last poll but before the flag was cleared
+            if (!closed && (!queue.isEmpty() || catchUpFrom != 0)) {
+                scheduleDrain();
+            }
+        }
+
+        /**
+         * Next matching buffered event while catching up, or null once caught up.
+         * Events overwritten before they were sent end the catch-up with a reset.
+         */
+        private FeedEntry nextBuffered() {
+            if (catchUpFrom == 0) {
+                return null;
+            }
+            synchronized (ComplaintChangeFeed.this) {
+                while (catchUpFrom != 0) {
+                    long sequence = catchUpFrom;
+                    if (sequence > lastSequence) {
+                        catchUpFrom = 0; // caught up; new events are queued again
+                        return null;
+                    }
+                    FeedEntry entry = history[(int) (sequence % history.length)];
+                    if (entry == null || entry.sequence() != sequence) {
+                        catchUpFrom = 0;
+                        resets.increment();
+                        log.warn("Complaint stream subscriber fell behind the history buffer, sending reset");
+                        return FeedEntry.control("reset", lastSequence);
+                    }
+                    catchUpFrom = sequence + 1;
+                    if (accepts(entry)) {
+                        return entry;
+                    }
+                }
+                return null;
+            }
+        }
+
+        private void send(Object item) throws IOException {
+            if (item == HEARTBEAT) {
+                emitter.send(SseEmitter.event().comment("keep-alive"));
+                return;
+            }
+            FeedEntry entry = (FeedEntry) item;
+            if (entry.control() != null) {
+                emitter.send(SseEmitter.event().id(eventId(entry.sequence())).name(entry.control()).data(""));
+                return;
+            }
+            emitter.send(SseEmitter.event()
+                    .id(eventId(entry.sequence()))
+                    .name(entry.payload().getType().toLowerCase())
+                    .data(entry.payload(), MediaType.APPLICATION_JSON));
+        }
+    }
+}
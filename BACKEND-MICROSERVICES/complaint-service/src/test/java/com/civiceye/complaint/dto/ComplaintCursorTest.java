@@ -0,0 +1,55 @@
+package com.civiceye.complaint.dto;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ComplaintCursorTest {
+
+    @Test
+    void encodedCursorDecodesToTheSamePosition() {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 3, 9, 14, 5, 7, 123_456_000);
+        ComplaintCursor cursor = new ComplaintCursor(createdAt, 42L);
+
+        ComplaintCursor decoded = ComplaintCursor.decode(cursor.encode());
+
+        assertEquals(createdAt, decoded.getCreatedAt());
+        assertEquals(42L, decoded.getId());
+    }
+
+    @Test
+    void timestampsWithoutSecondsSurviveTheRoundTrip() {
+        // LocalDateTime.toString() drops zero seconds ("2024-03-09T14:05")
+        LocalDateTime createdAt = LocalDateTime.of(2024, 3, 9, 14, 5);
+
+        assertEquals(createdAt, ComplaintCursor.decode(new ComplaintCursor(createdAt, 1L).encode()).getCreatedAt());
+    }
+
+    @Test
+    void encodedCursorIsUrlSafe() {
+        String encoded = new ComplaintCursor(LocalDateTime.of(2024, 12, 31, 23, 59, 59), Long.MAX_VALUE).encode();
+
+        assertTrue(encoded.matches("[A-Za-z0-9_-]+"), encoded);
+        assertFalse(encoded.contains("="));
+    }
+
+    @Test
+    void missingCursorStartsAtTheFirstPage() {
+        assertSame(ComplaintCursor.FIRST, ComplaintCursor.decode(null));
+        assertSame(ComplaintCursor.FIRST, ComplaintCursor.decode(""));
+        assertSame(ComplaintCursor.FIRST, ComplaintCursor.decode("  "));
+    }
+
+    @Test
+    void malformedCursorIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> ComplaintCursor.decode("not base64!"));
+        assertThrows(IllegalArgumentException.class, () -> ComplaintCursor.decode("bm8tc2VwYXJhdG9y")); // "no-separator"
+        assertThrows(IllegalArgumentException.class, () -> ComplaintCursor.decode("MjAyNHxhYmM")); // "2024|abc"
+    }
+}
@@ -0,0 +1,85 @@
+package com.civiceye.complaint.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ComplaintDuplicateIndexTest {
+
+    @Test
+    void identicalTextIsFullySimilar() {
+        int[] a = ComplaintDuplicateIndex.signature("Pothole on Main Street", "Deep hole near the bus stop");
+        int[] b = ComplaintDuplicateIndex.signature("Pothole on Main Street", "Deep hole near the bus stop");
+
+        assertEquals(1.0, ComplaintDuplicateIndex.similarity(a, b));
+    }
+
+    @Test
+    void caseAndPunctuationAreIgnored() {
+        int[] a = ComplaintDuplicateIndex.signature("Pothole on Main Street", "Deep hole near the bus stop");
+        int[] b = ComplaintDuplicateIndex.signature("POTHOLE on main street!!", "deep hole -- near the bus stop.");
+
+        assertEquals(1.0, ComplaintDuplicateIndex.similarity(a, b));
+    }
+
+    @Test
+    void estimateTracksTheExactShingleJaccard() {
+        String[][] pairs = {
+                {"Pothole on Main Street", "Deep hole near the bus stop",
+                 "Pothole on Main St", "Deep hole next to the bus stop"},
+                {"Streetlight out", "The streetlight at the corner of Oak and 5th has been out for a week",
+                 "Broken streetlight", "Streetlight at the corner of Oak and 5th is not working"},
+                {"Garbage not collected", "Bins on Elm Road were skipped on Monday",
+                 "Garbage not collected", "Bins on Elm Road were skipped again on Thursday"},
+        };
+
+        for (String[] pair : pairs) {
+            double estimated = ComplaintDuplicateIndex.similarity(
+                    ComplaintDuplicateIndex.signature(pair[0], pair[1]),
+                    ComplaintDuplicateIndex.signature(pair[2], pair[3]));
+            double exact = jaccard(shingles(pair[0] + " " + pair[1]), shingles(pair[2] + " " + pair[3]));
+            assertTrue(Math.abs(estimated - exact) <= 0.2,
+                    pair[0] + ": estimated " + estimated + ", exact " + exact);
+        }
+    }
+
+    @Test
+    void unrelatedTextIsDissimilar() {
+        int[] a = ComplaintDuplicateIndex.signature("Pothole on Main Street", "Deep hole near the bus stop");
+        int[] b = ComplaintDuplicateIndex.signature("Noisy neighbours", "Loud music every night after midnight");
+
+        assertTrue(ComplaintDuplicateIndex.similarity(a, b) < 0.2);
+    }
+
+    @Test
+    void textShorterThanAShingleStillHasASignature() {
+        int[] a = ComplaintDuplicateIndex.signature("", "");
+        int[] b = ComplaintDuplicateIndex.signature("!", "?");
+
+        assertEquals(1.0, ComplaintDuplicateIndex.similarity(a, b));
+        assertTrue(ComplaintDuplicateIndex.similarity(a, ComplaintDuplicateIndex.signature("ab", "")) < 1.0);
+    }
+
+    // Same normalization and 4-character shingles as the index
+    private static Set<String> shingles(String text) {
+        String normalized = text.toLowerCase(Locale.ROOT).replaceAll("[^\\p{L}\\p{N}]+", " ").trim();
+        Set<String> shingles = new HashSet<>();
+        for (int start = 0; start + 4 <= normalized.length(); start++) {
+            shingles.add(normalized.substring(start, start + 4));
+        }
+        return shingles;
+    }
+
+    private static double jaccard(Set<String> a, Set<String> b) {
+        Set<String> union = new HashSet<>(a);
+        union.addAll(b);
+        Set<String> intersection = new HashSet<>(a);
+        intersection.retainAll(b);
+        return (double) intersection.size() / union.size();
+    }
+}
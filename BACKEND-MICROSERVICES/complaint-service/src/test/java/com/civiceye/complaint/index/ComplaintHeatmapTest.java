@@ -0,0 +1,140 @@
+package com.civiceye.complaint.index;
+
+import com.civiceye.complaint.dto.HeatmapTile;
+import com.civiceye.complaint.entity.Complaint;
+import com.civiceye.complaint.event.ComplaintChangedEvent;
+import com.civiceye.complaint.event.ComplaintSnapshot;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ComplaintHeatmapTest {
+
+    // Levels 0 and 4 with 4 x 4 cells per tile: z 1-3 read level 0, z 4 and above read level 4
+    private final ComplaintHeatmap heatmap = new ComplaintHeatmap(new int[]{0, 4}, 4);
+
+    @Test
+    void lastTileOfEveryZoomContainsTheBottomRightCorner() {
+        heatmap.onComplaintChanged(created(1L, -85.0, 179.999, Complaint.ComplaintStatus.PENDING, "POTHOLE"));
+
+        for (int z = 0; z <= 8; z++) {
+            int last = (1 << z) - 1;
+            HeatmapTile tile = heatmap.tile(z, last, last, null, null);
+            assertEquals(1, tile.getTotal(), "z=" + z);
+            assertEquals(1, tile.getCells().size(), "z=" + z);
+            HeatmapTile.Cell cell = tile.getCells().get(0);
+            assertTrue(cell.getLatitude() < 0 && cell.getLatitude() > -85.06, "z=" + z);
+            assertTrue(cell.getLongitude() > 0 && cell.getLongitude() < 180, "z=" + z);
+        }
+        assertEquals(0, heatmap.tile(8, 0, 0, null, null).getTotal());
+    }
+
+    @Test
+    void firstTileOfEveryZoomContainsTheTopLeftCorner() {
+        heatmap.onComplaintChanged(created(1L, 85.0, -180.0, Complaint.ComplaintStatus.PENDING, "POTHOLE"));
+
+        for (int z = 0; z <= 8; z++) {
+            int last = (1 << z) - 1;
+            assertEquals(1, heatmap.tile(z, 0, 0, null, null).getTotal(), "z=" + z);
+            if (z > 0) {
+                assertEquals(0, heatmap.tile(z, last, last, null, null).getTotal(), "z=" + z);
+            }
+        }
+    }
+
+    @Test
+    void zoomAtAStoredLevelReadsThatLevel() {
+        assertEquals(0, heatmap.tile(0, 0, 0, null, null).getLevel());
+        assertEquals(4, heatmap.tile(4, 3, 5, null, null).getLevel());
+    }
+
+    @Test
+    void childTilesAboveAStoredLevelSplitTheirParent() {
+        long id = 1;
+        for (double latitude = -60; latitude <= 60; latitude += 7.3) {
+            for (double longitude = -170; longitude <= 170; longitude += 11.1) {
+                heatmap.onComplaintChanged(created(id++, latitude, longitude, Complaint.ComplaintStatus.PENDING, "POTHOLE"));
+            }
+        }
+
+        // z 5 and 6 read level 4 with 2 x 2 and 1 x 1 cells per tile; z 1 and 2 read level 0
+        for (int z : new int[]{1, 2, 5, 6}) {
+            int parentZ = z - 1;
+            for (int x = 0; x < 1 << parentZ; x++) {
+                for (int y = 0; y < 1 << parentZ; y++) {
+                    long children = heatmap.tile(z, 2 * x, 2 * y, null, null).getTotal()
+                            + heatmap.tile(z, 2 * x + 1, 2 * y, null, null).getTotal()
+                            + heatmap.tile(z, 2 * x, 2 * y + 1, null, null).getTotal()
+                            + heatmap.tile(z, 2 * x + 1, 2 * y + 1, null, null).getTotal();
+                    assertEquals(heatmap.tile(parentZ, x, y, null, null).getTotal(), children,
+                            "z=" + z + " parent=" + x + "/" + y);
+                }
+            }
+        }
+    }
+
+    @Test
+    void coarseCellIsReportedForEveryTileItCovers() {
+        // At z 3 a level-0 cell spans 2 x 2 tiles
+        heatmap.onComplaintChanged(created(1L, -80.0, 170.0, Complaint.ComplaintStatus.PENDING, "POTHOLE"));
+
+        assertEquals(0, heatmap.tile(3, 7, 7, null, null).getLevel());
+        assertEquals(1, heatmap.tile(3, 7, 7, null, null).getTotal());
+        assertEquals(1, heatmap.tile(3, 6, 6, null, null).getTotal());
+        assertEquals(0, heatmap.tile(3, 5, 5, null, null).getTotal());
+    }
+
+    @Test
+    void deletingTheLastComplaintRemovesTheCell() {
+        ComplaintChangedEvent created = created(1L, 48.85, 2.35, Complaint.ComplaintStatus.PENDING, "POTHOLE");
+        heatmap.onComplaintChanged(created);
+        assertEquals(1, heatmap.storedCells(0));
+        assertEquals(1, heatmap.storedCells(4));
+
+        heatmap.onComplaintChanged(ComplaintChangedEvent.deleted(created.getCurrent()));
+
+        assertEquals(0, heatmap.storedCells(0));
+        assertEquals(0, heatmap.storedCells(4));
+        assertEquals(0, heatmap.tile(0, 0, 0, null, null).getTotal());
+    }
+
+    @Test
+    void removingOneCombinationKeepsTheOthersInTheCell() {
+        ComplaintChangedEvent pothole = created(1L, 48.85, 2.35, Complaint.ComplaintStatus.PENDING, "POTHOLE");
+        ComplaintChangedEvent garbage = created(2L, 48.85, 2.35, Complaint.ComplaintStatus.PENDING, "GARBAGE");
+        heatmap.onComplaintChanged(pothole);
+        heatmap.onComplaintChanged(garbage);
+
+        heatmap.onComplaintChanged(ComplaintChangedEvent.deleted(pothole.getCurrent()));
+
+        assertEquals(1, heatmap.storedCells(0));
+        assertEquals(1, heatmap.tile(0, 0, 0, null, null).getTotal());
+        assertEquals(0, heatmap.tile(0, 0, 0, null, "POTHOLE").getTotal());
+        assertEquals(1, heatmap.tile(0, 0, 0, null, "GARBAGE").getTotal());
+    }
+
+    @Test
+    void statusChangeMovesTheCountBetweenFilters() {
+        ComplaintChangedEvent created = created(1L, 48.85, 2.35, Complaint.ComplaintStatus.PENDING, "POTHOLE");
+        heatmap.onComplaintChanged(created);
+        ComplaintSnapshot resolved = snapshot(1L, 48.85, 2.35, Complaint.ComplaintStatus.RESOLVED, "POTHOLE");
+
+        heatmap.onComplaintChanged(ComplaintChangedEvent.statusChanged(created.getCurrent(), resolved));
+
+        assertEquals(0, heatmap.tile(0, 0, 0, Complaint.ComplaintStatus.PENDING, null).getTotal());
+        assertEquals(1, heatmap.tile(0, 0, 0, Complaint.ComplaintStatus.RESOLVED, null).getTotal());
+        assertEquals(1, heatmap.storedCells(0));
+    }
+
+    private static ComplaintChangedEvent created(Long id, double latitude, double longitude,
+                                                 Complaint.ComplaintStatus status, String category) {
+        return ComplaintChangedEvent.created(snapshot(id, latitude, longitude, status, category));
+    }
+
+    private static ComplaintSnapshot snapshot(Long id, double latitude, double longitude,
+                                              Complaint.ComplaintStatus status, String category) {
+        return new ComplaintSnapshot(id, 1L, "Title " + id, "Description " + id, category, status,
+                latitude, longitude, null, null, null, 0L);
+    }
+}
@@ -0,0 +1,175 @@
+package com.civiceye.complaint.index;
+
+import com.civiceye.complaint.dto.ComplaintStats;
+import com.civiceye.complaint.entity.ArchivedComplaint;
+import com.civiceye.complaint.entity.Complaint;
+import com.civiceye.complaint.event.ComplaintChangedEvent;
+import com.civiceye.complaint.event.ComplaintSnapshot;
+import com.civiceye.complaint.repository.ArchivedComplaintRepository;
+import com.civiceye.complaint.repository.ComplaintRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ComplaintIndexerTest {
+
+    private static final LocalDateTime NOON = LocalDateTime.of(2024, 5, 1, 12, 0);
+
+    // The database as another replica leaves it
+    private final Map<Long, Complaint> hot = new TreeMap<>();
+    private final Map<Long, ArchivedComplaint> archive = new TreeMap<>();
+
+    private final ComplaintStatistics statistics = new ComplaintStatistics();
+    private final ComplaintSpatialIndex spatial = new ComplaintSpatialIndex();
+    private ComplaintIndexer indexer;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(spatial, "cellSizeDegrees", 0.01);
+        indexer = new ComplaintIndexer(List.of(statistics, spatial), complaintRepository(), archivedRepository());
+        hot.put(1L, complaint(1L, Complaint.ComplaintStatus.PENDING, "ROAD", 0L));
+        hot.put(2L, complaint(2L, Complaint.ComplaintStatus.PENDING, "WASTE", 0L));
+        hot.put(3L, complaint(3L, Complaint.ComplaintStatus.RESOLVED, "ROAD", 0L));
+        indexer.afterSingletonsInstantiated();
+    }
+
+    @Test
+    void reconcilePicksUpWritesMadeElsewhere() {
+        hot.put(1L, complaint(1L, Complaint.ComplaintStatus.IN_PROGRESS, "ROAD", 1L));
+        hot.remove(2L);
+        hot.put(4L, complaint(4L, Complaint.ComplaintStatus.PENDING, "LIGHTING", 0L));
+
+        indexer.reconcile();
+
+        ComplaintStats stats = statistics.snapshot(1);
+        assertEquals(3, stats.getTotal());
+        assertEquals(1L, stats.getByStatus().get("PENDING"));
+        assertEquals(1L, stats.getByStatus().get("IN_PROGRESS"));
+        assertEquals(Map.of("LIGHTING", 1L, "ROAD", 2L), stats.getByCategory());
+        assertEquals(3, spatial.size());
+    }
+
+    @Test
+    void archivedElsewhereLeavesTheHotIndexesButStillCounts() {
+        Complaint resolved = hot.remove(3L);
+        archive.put(3L, archived(resolved));
+
+        indexer.reconcile();
+
+        assertEquals(3, statistics.snapshot(1).getTotal());
+        assertEquals(2, spatial.size());
+    }
+
+    @Test
+    void reconcileWithoutChangesIsANoOp() {
+        indexer.reconcile();
+        indexer.reconcile();
+
+        ComplaintStats stats = statistics.snapshot(1);
+        assertEquals(3, stats.getTotal());
+        assertEquals(2L, stats.getByStatus().get("PENDING"));
+        assertEquals(3, spatial.size());
+    }
+
+    @Test
+    void rowOlderThanALocalWriteIsIgnored() {
+        Complaint stale = hot.get(1L);
+        Complaint resolved = complaint(1L, Complaint.ComplaintStatus.RESOLVED, "ROAD", 1L);
+        indexer.onComplaintChanged(ComplaintChangedEvent.statusChanged(ComplaintSnapshot.of(stale),
+                ComplaintSnapshot.of(resolved)));
+
+        // The reconcile read the row before the local write committed
+        indexer.reconcile();
+
+        ComplaintStats stats = statistics.snapshot(1);
+        assertEquals(1L, stats.getByStatus().get("PENDING"));
+        assertEquals(2L, stats.getByStatus().get("RESOLVED"));
+    }
+
+    @Test
+    void localUpdateOfAComplaintCreatedElsewhereCountsItOnce() {
+        Complaint created = complaint(5L, Complaint.ComplaintStatus.PENDING, "ROAD", 0L);
+        Complaint resolved = complaint(5L, Complaint.ComplaintStatus.RESOLVED, "ROAD", 1L);
+        hot.put(5L, resolved);
+
+        indexer.onComplaintChanged(ComplaintChangedEvent.statusChanged(ComplaintSnapshot.of(created),
+                ComplaintSnapshot.of(resolved)));
+        indexer.reconcile();
+
+        ComplaintStats stats = statistics.snapshot(1);
+        assertEquals(4, stats.getTotal());
+        assertEquals(2L, stats.getByStatus().get("PENDING"));
+        assertEquals(2L, stats.getByStatus().get("RESOLVED"));
+    }
+
+    private ComplaintRepository complaintRepository() {
+        return (ComplaintRepository) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{ComplaintRepository.class}, (proxy, method, args) -> {
+                    if (!method.getName().equals("findPage")) {
+                        throw new UnsupportedOperationException(method.getName());
+                    }
+                    return page(new ArrayList<>(hot.values()), (LocalDateTime) args[0], (Long) args[1], (Pageable) args[2]);
+                });
+    }
+
+    private ArchivedComplaintRepository archivedRepository() {
+        return (ArchivedComplaintRepository) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{ArchivedComplaintRepository.class}, (proxy, method, args) -> switch (method.getName()) {
+                    case "findPage" -> List.of();
+                    case "findAllById" -> {
+                        List<ArchivedComplaint> found = new ArrayList<>();
+                        for (Object id : (Iterable<?>) args[0]) {
+                            if (archive.containsKey(id)) {
+                                found.add(archive.get(id));
+                            }
+                        }
+                        yield found;
+                    }
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    // Same keyset order as ComplaintRepository.findPage: newest first, strictly after the position
+    private static List<Complaint> page(List<Complaint> rows, LocalDateTime createdAt, Long id, Pageable pageable) {
+        Comparator<Complaint> newestFirst = Comparator.comparing(Complaint::getCreatedAt)
+                .thenComparing(Complaint::getId).reversed();
+        return rows.stream()
+                .filter(c -> c.getCreatedAt().isBefore(createdAt)
+                        || (c.getCreatedAt().isEqual(createdAt) && c.getId() < id))
+                .sorted(newestFirst)
+                .limit(pageable.getPageSize())
+                .toList();
+    }
+
+    private static Complaint complaint(Long id, Complaint.ComplaintStatus status, String category, long version) {
+        Complaint complaint = new Complaint();
+        complaint.setId(id);
+        complaint.setUserId(1L);
+        complaint.setTitle("Complaint " + id);
+        complaint.setDescription("Description " + id);
+        complaint.setCategory(category);
+        complaint.setStatus(status);
+        complaint.setLatitude(48.85 + id * 0.01);
+        complaint.setLongitude(2.35);
+        complaint.setCreatedAt(NOON.plusMinutes(id));
+        complaint.setVersion(version);
+        return complaint;
+    }
+
+    private static ArchivedComplaint archived(Complaint complaint) {
+        ArchivedComplaint archived = new ArchivedComplaint();
+        archived.setId(complaint.getId());
+        return archived;
+    }
+}
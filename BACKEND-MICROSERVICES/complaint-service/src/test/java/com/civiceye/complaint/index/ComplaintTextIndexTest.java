@@ -0,0 +1,109 @@
+package com.civiceye.complaint.index;
+
+import com.civiceye.complaint.entity.Complaint;
+import com.civiceye.complaint.event.ComplaintChangedEvent;
+import com.civiceye.complaint.event.ComplaintSnapshot;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ComplaintTextIndexTest {
+
+    private final ComplaintTextIndex index = new ComplaintTextIndex();
+
+    @Test
+    void tokenizeDropsStopWordsAndPlurals() {
+        assertEquals(List.of("pothole", "main", "street", "glass"),
+                ComplaintTextIndex.tokenize("Potholes on the MAIN street, glass!"));
+        assertEquals(List.of(), ComplaintTextIndex.tokenize(null));
+        assertEquals(List.of("bus"), ComplaintTextIndex.tokenize("a bus"));
+    }
+
+    @Test
+    void rareTermOutranksCommonTerm() {
+        index.onComplaintChanged(created(1L, "Road damage", "Pothole on the road", Complaint.ComplaintStatus.PENDING, "ROAD"));
+        index.onComplaintChanged(created(2L, "Road damage", "Cracked road surface", Complaint.ComplaintStatus.PENDING, "ROAD"));
+        index.onComplaintChanged(created(3L, "Road damage", "Faded road markings", Complaint.ComplaintStatus.PENDING, "ROAD"));
+
+        List<ComplaintTextIndex.Hit> hits = index.search("pothole road", null, null, 10);
+
+        assertEquals(3, hits.size());
+        assertEquals(1L, hits.get(0).getId());
+        assertTrue(hits.get(0).getScore() > hits.get(1).getScore());
+    }
+
+    @Test
+    void titleMatchOutranksDescriptionMatch() {
+        index.onComplaintChanged(created(1L, "Streetlight", "Broken since Monday", Complaint.ComplaintStatus.PENDING, "LIGHTING"));
+        index.onComplaintChanged(created(2L, "Broken lamp", "Streetlight since Monday", Complaint.ComplaintStatus.PENDING, "LIGHTING"));
+
+        List<ComplaintTextIndex.Hit> hits = index.search("streetlight", null, null, 10);
+
+        assertEquals(List.of(1L, 2L), ids(hits));
+    }
+
+    @Test
+    void shorterDocumentOutranksLongerOneWithTheSameFrequency() {
+        index.onComplaintChanged(created(1L, "Graffiti", "Wall", Complaint.ComplaintStatus.PENDING, "VANDALISM"));
+        index.onComplaintChanged(created(2L, "Graffiti", "Wall fence bench shelter sign pole door window",
+                Complaint.ComplaintStatus.PENDING, "VANDALISM"));
+
+        assertEquals(List.of(1L, 2L), ids(index.search("graffiti", null, null, 10)));
+    }
+
+    @Test
+    void filtersAndLimitApplyToTheRanking() {
+        index.onComplaintChanged(created(1L, "Garbage", "Garbage garbage", Complaint.ComplaintStatus.RESOLVED, "WASTE"));
+        index.onComplaintChanged(created(2L, "Garbage", "Overflowing bin", Complaint.ComplaintStatus.PENDING, "WASTE"));
+        index.onComplaintChanged(created(3L, "Garbage", "Dumped on sidewalk", Complaint.ComplaintStatus.PENDING, "ROAD"));
+
+        assertEquals(List.of(2L, 3L), sorted(ids(index.search("garbage", Complaint.ComplaintStatus.PENDING, null, 10))));
+        assertEquals(List.of(1L, 2L), sorted(ids(index.search("garbage", null, "waste", 10))));
+        assertEquals(List.of(1L), ids(index.search("garbage", null, null, 1)));
+    }
+
+    @Test
+    void updateReplacesTheOldTerms() {
+        ComplaintChangedEvent created = created(1L, "Pothole", "Deep hole", Complaint.ComplaintStatus.PENDING, "ROAD");
+        index.onComplaintChanged(created);
+        ComplaintSnapshot updated = snapshot(1L, "Flooding", "Water on the road", Complaint.ComplaintStatus.PENDING, "ROAD");
+
+        index.onComplaintChanged(ComplaintChangedEvent.updated(created.getCurrent(), updated));
+
+        assertEquals(List.of(), index.search("pothole", null, null, 10));
+        assertEquals(List.of(1L), ids(index.search("flooding", null, null, 10)));
+    }
+
+    @Test
+    void deleteRemovesTheComplaint() {
+        ComplaintChangedEvent created = created(1L, "Pothole", "Deep hole", Complaint.ComplaintStatus.PENDING, "ROAD");
+        index.onComplaintChanged(created);
+        index.onComplaintChanged(created(2L, "Pothole", "Small hole", Complaint.ComplaintStatus.PENDING, "ROAD"));
+
+        index.onComplaintChanged(ComplaintChangedEvent.deleted(created.getCurrent()));
+
+        assertEquals(List.of(2L), ids(index.search("pothole hole", null, null, 10)));
+    }
+
+    private static List<Long> ids(List<ComplaintTextIndex.Hit> hits) {
+        return hits.stream().map(ComplaintTextIndex.Hit::getId).toList();
+    }
+
+    private static List<Long> sorted(List<Long> ids) {
+        return ids.stream().sorted().toList();
+    }
+
+    private static ComplaintChangedEvent created(Long id, String title, String description,
+                                                 Complaint.ComplaintStatus status, String category) {
+        return ComplaintChangedEvent.created(snapshot(id, title, description, status, category));
+    }
+
+    private static ComplaintSnapshot snapshot(Long id, String title, String description,
+                                              Complaint.ComplaintStatus status, String category) {
+        return new ComplaintSnapshot(id, 1L, title, description, category, status,
+                48.85, 2.35, null, null, null, 0L);
+    }
+}
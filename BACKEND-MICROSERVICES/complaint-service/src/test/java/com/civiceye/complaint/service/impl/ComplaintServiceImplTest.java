@@ -0,0 +1,76 @@
+package com.civiceye.complaint.service.impl;
+
+import com.civiceye.complaint.dto.ComplaintCursor;
+import com.civiceye.complaint.entity.Complaint;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class ComplaintServiceImplTest {
+
+    private static final LocalDateTime NOON = LocalDateTime.of(2024, 5, 1, 12, 0);
+
+    @Test
+    void mergeInterleavesNewestFirst() {
+        List<Complaint> hot = List.of(complaint(9L, NOON.plusHours(3)), complaint(5L, NOON.plusHours(1)));
+        List<Complaint> archived = List.of(complaint(7L, NOON.plusHours(2)), complaint(3L, NOON));
+
+        List<Complaint> merged = ComplaintServiceImpl.mergeNewestFirst(hot, archived, ComplaintCursor::of, 10);
+
+        assertEquals(List.of(9L, 7L, 5L, 3L), ids(merged));
+    }
+
+    @Test
+    void mergeBreaksTimestampTiesByIdDescending() {
+        List<Complaint> hot = List.of(complaint(4L, NOON), complaint(2L, NOON));
+        List<Complaint> archived = List.of(complaint(3L, NOON), complaint(1L, NOON));
+
+        assertEquals(List.of(4L, 3L, 2L, 1L),
+                ids(ComplaintServiceImpl.mergeNewestFirst(hot, archived, ComplaintCursor::of, 10)));
+    }
+
+    @Test
+    void mergeKeepsOnlyTheLimit() {
+        List<Complaint> hot = List.of(complaint(6L, NOON.plusHours(6)), complaint(4L, NOON.plusHours(4)));
+        List<Complaint> archived = List.of(complaint(5L, NOON.plusHours(5)), complaint(3L, NOON.plusHours(3)));
+
+        assertEquals(List.of(6L, 5L, 4L),
+                ids(ComplaintServiceImpl.mergeNewestFirst(hot, archived, ComplaintCursor::of, 3)));
+    }
+
+    @Test
+    void complaintReadFromBothTablesIsKeptOnceFromTheFirst() {
+        Complaint hotCopy = complaint(5L, NOON);
+        List<Complaint> hot = List.of(complaint(6L, NOON.plusHours(1)), hotCopy);
+        List<Complaint> archived = List.of(complaint(5L, NOON), complaint(4L, NOON.minusHours(1)));
+
+        List<Complaint> merged = ComplaintServiceImpl.mergeNewestFirst(hot, archived, ComplaintCursor::of, 10);
+
+        assertEquals(List.of(6L, 5L, 4L), ids(merged));
+        assertSame(hotCopy, merged.get(1));
+    }
+
+    @Test
+    void emptyListOnEitherSideKeepsTheOther() {
+        List<Complaint> rows = List.of(complaint(2L, NOON.plusHours(1)), complaint(1L, NOON));
+
+        assertSame(rows, ComplaintServiceImpl.mergeNewestFirst(rows, List.of(), ComplaintCursor::of, 10));
+        assertEquals(List.of(2L, 1L),
+                ids(ComplaintServiceImpl.mergeNewestFirst(List.of(), rows, ComplaintCursor::of, 10)));
+    }
+
+    private static List<Long> ids(List<Complaint> complaints) {
+        return complaints.stream().map(Complaint::getId).toList();
+    }
+
+    private static Complaint complaint(Long id, LocalDateTime createdAt) {
+        Complaint complaint = new Complaint();
+        complaint.setId(id);
+        complaint.setCreatedAt(createdAt);
+        return complaint;
+    }
+}
@@ -0,0 +1,223 @@
+package com.civiceye.complaint.stream;
+
+import com.civiceye.complaint.dto.ComplaintFilter;
+import com.civiceye.complaint.entity.Complaint;
+import com.civiceye.complaint.event.ComplaintChangedEvent;
+import com.civiceye.complaint.event.ComplaintSnapshot;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ComplaintChangeFeedTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private RecordingEmitter nextEmitter;
+    private ComplaintChangeFeed feed;
+    private long sequence;
+
+    @AfterEach
+    void tearDown() {
+        feed.destroy();
+    }
+
+    @Test
+    void resumeWithBacklogLargerThanTheQueueReplaysEverything() throws Exception {
+        createFeed(64, 4, 2);
+        RecordingEmitter live = subscribe(null);
+        String epoch = live.awaitEvents(1).get(0).epoch();
+
+        publish(30);
+        RecordingEmitter resumed = subscribe(epoch + "-0");
+
+        assertEquals(expected("ready 0", 1, 30), resumed.awaitEvents(31).stream().map(Sent::toString).toList());
+        assertEquals(expected("ready 0", 1, 30), live.awaitEvents(31).stream().map(Sent::toString).toList());
+        assertEquals(0.0, meterRegistry.counter("complaint.stream.resets").count());
+    }
+
+    @Test
+    void subscriberBlockedPastItsQueueCatchesUpFromTheHistory() throws Exception {
+        createFeed(64, 2, 2);
+        RecordingEmitter blocked = subscribe(null, true);
+        blocked.awaitBlocked();
+
+        publish(20);
+        blocked.release();
+
+        assertEquals(expected("ready 0", 1, 20), blocked.awaitEvents(21).stream().map(Sent::toString).toList());
+        assertEquals(0.0, meterRegistry.counter("complaint.stream.resets").count());
+    }
+
+    @Test
+    void subscriberOverrunByTheHistoryIsReset() throws Exception {
+        createFeed(8, 2, 2);
+        RecordingEmitter blocked = subscribe(null, true);
+        blocked.awaitBlocked();
+
+        // 1 and 2 fit the queue; 3 was overwritten in the history by 11 before it could be sent
+        publish(20);
+        blocked.release();
+        blocked.awaitEvents(4);
+        publish(1);
+
+        assertEquals(List.of("ready 0", "created 1", "created 2", "reset 20", "created 21"),
+                blocked.awaitEvents(5).stream().map(Sent::toString).toList());
+        assertEquals(1.0, meterRegistry.counter("complaint.stream.resets").count());
+    }
+
+    @Test
+    void stalledSendIsDroppedWithoutStarvingOtherSubscribers() throws Exception {
+        createFeed(64, 4, 1);
+        ReflectionTestUtils.setField(feed, "sendTimeoutMs", 50L);
+        RecordingEmitter stalled = subscribe(null, true);
+        stalled.awaitBlocked();
+        RecordingEmitter other = subscribe(null);
+
+        Thread.sleep(100);
+        feed.dropStalled();
+
+        // The only sender thread is still blocked; the replacement serves the other subscriber
+        assertEquals(List.of("ready 0"), other.awaitEvents(1).stream().map(Sent::toString).toList());
+        assertEquals(1.0, meterRegistry.counter("complaint.stream.dropped").count());
+        assertEquals(1.0, meterRegistry.get("complaint.stream.subscribers").gauge().value());
+
+        stalled.release();
+        await(() -> stalled.completed, "stalled emitter completed");
+        publish(1);
+        assertEquals(List.of("ready 0", "created 1"), other.awaitEvents(2).stream().map(Sent::toString).toList());
+    }
+
+    private void createFeed(int historySize, int queueCapacity, int senderThreads) {
+        feed = new ComplaintChangeFeed(historySize, senderThreads, meterRegistry) {
+            @Override
+            SseEmitter newEmitter() {
+                return nextEmitter;
+            }
+        };
+        ReflectionTestUtils.setField(feed, "maxSubscribers", 10);
+        ReflectionTestUtils.setField(feed, "queueCapacity", queueCapacity);
+        ReflectionTestUtils.setField(feed, "sendTimeoutMs", 10_000L);
+    }
+
+    private RecordingEmitter subscribe(String lastEventId) {
+        return subscribe(lastEventId, false);
+    }
+
+    private RecordingEmitter subscribe(String lastEventId, boolean blockFirstSend) {
+        RecordingEmitter emitter = new RecordingEmitter(blockFirstSend);
+        nextEmitter = emitter;
+        feed.subscribe(new ComplaintFilter(), lastEventId);
+        return emitter;
+    }
+
+    private void publish(int count) {
+        for (int i = 0; i < count; i++) {
+            long id = ++sequence;
+            feed.onComplaintChanged(ComplaintChangedEvent.created(new ComplaintSnapshot(id, 1L, "Title " + id,
+                    "Description " + id, "POTHOLE", Complaint.ComplaintStatus.PENDING, 48.85, 2.35,
+                    null, null, null, 0L)));
+        }
+    }
+
+    private static List<String> expected(String first, int from, int to) {
+        List<String> events = new ArrayList<>();
+        events.add(first);
+        for (int i = from; i <= to; i++) {
+            events.add("created " + i);
+        }
+        return events;
+    }
+
+    private static void await(BooleanSupplier condition, String description) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.currentTimeMillis() < deadline, "Timed out waiting for " + description);
+            Thread.sleep(5);
+        }
+    }
+
+    private record Sent(String id, String name) {
+
+        String epoch() {
+            return id.substring(0, id.indexOf('-'));
+        }
+
+        @Override
+        public String toString() {
+            return name + " " + id.substring(id.indexOf('-') + 1);
+        }
+    }
+
+    /**
+     * Emitter that records what would be written, optionally blocking the first send like a stalled socket
+     */
+    private static class RecordingEmitter extends SseEmitter {
+
+        private final List<Sent> sent = new CopyOnWriteArrayList<>();
+        private final CountDownLatch blocked = new CountDownLatch(1);
+        private final CountDownLatch released;
+        private volatile boolean completed;
+
+        RecordingEmitter(boolean blockFirstSend) {
+            this.released = new CountDownLatch(blockFirstSend ? 1 : 0);
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            blocked.countDown();
+            try {
+                released.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException(e);
+            }
+            StringBuilder text = new StringBuilder();
+            for (ResponseBodyEmitter.DataWithMediaType part : builder.build()) {
+                if (part.getData() instanceof String string) {
+                    text.append(string);
+                }
+            }
+            String id = null;
+            String name = null;
+            for (String line : text.toString().split("\n")) {
+                if (line.startsWith("id:")) {
+                    id = line.substring(3);
+                } else if (line.startsWith("event:")) {
+                    name = line.substring(6);
+                }
+            }
+            sent.add(new Sent(id, name));
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+        }
+
+        void awaitBlocked() throws InterruptedException {
+            assertTrue(blocked.await(5, TimeUnit.SECONDS), "Timed out waiting for the first send");
+        }
+
+        void release() {
+            released.countDown();
+        }
+
+        List<Sent> awaitEvents(int count) throws InterruptedException {
+            await(() -> sent.size() >= count, count + " events");
+            return List.copyOf(sent);
+        }
+    }
+}
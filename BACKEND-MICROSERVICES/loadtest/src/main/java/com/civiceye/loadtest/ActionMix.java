@@ -0,0 +1,72 @@
+package com.civiceye.loadtest;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Action Mix
+ * Weighted choice of the next thing a virtual user does, parsed from e.g.
+ * "register=2,login=5,create=25,upload=15,poll=35,list=18"
+ */
+public class ActionMix {
+
+    public enum Action {
+        REGISTER,   // a new citizen signs up and logs in
+        LOGIN,
+        CREATE,     // submit a complaint
+        UPLOAD,     // attach a photo to one of the user's complaints
+        POLL,       // check for unread notifications
+        LIST        // list the user's complaints
+    }
+
+    private final Action[] actions;
+    private final int[] cumulativeWeights;
+    private final int totalWeight;
+
+    private ActionMix(Map<Action, Integer> weights) {
+        actions = new Action[weights.size()];
+        cumulativeWeights = new int[weights.size()];
+        int total = 0;
+        int i = 0;
+        for (Map.Entry<Action, Integer> entry : weights.entrySet()) {
+            total += entry.getValue();
+            actions[i] = entry.getKey();
+            cumulativeWeights[i] = total;
+            i++;
+        }
+        if (total == 0) {
+            throw new IllegalArgumentException("Action mix needs at least one positive weight");
+        }
+        totalWeight = total;
+    }
+
+    public static ActionMix parse(String mix) {
+        Map<Action, Integer> weights = new EnumMap<>(Action.class);
+        for (String part : mix.split(",")) {
+            String[] nameAndWeight = part.trim().split("=");
+            if (nameAndWeight.length != 2) {
+                throw new IllegalArgumentException("Expected action=weight but got: " + part);
+            }
+            int weight = Integer.parseInt(nameAndWeight[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("Weight must not be negative: " + part);
+            }
+            if (weight > 0) {
+                weights.put(Action.valueOf(nameAndWeight[0].trim().toUpperCase(Locale.ROOT)), weight);
+            }
+        }
+        return new ActionMix(weights);
+    }
+
+    public Action next(Random random) {
+        int point = random.nextInt(totalWeight);
+        for (int i = 0; i < actions.length; i++) {
+            if (point < cumulativeWeights[i]) {
+                return actions[i];
+            }
+        }
+        return actions[actions.length - 1];
+    }
+}
@@ -0,0 +1,172 @@
+package com.civiceye.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+
+/**
+ * Civic Eye Client
+ * The HTTP calls a citizen's app makes, each timed and recorded under a fixed
+ * endpoint name. Latency runs from the intended start of the request, so a
+ * rate-limited run is not hiding queueing behind a slow response
+ * (coordinated omission).
+ */
+public class CivicEyeClient {
+
+    public static final String REGISTER = "POST /api/users/register";
+    public static final String LOGIN = "POST /api/users/login";
+    public static final String CREATE_COMPLAINT = "POST /api/complaints";
+    public static final String UPLOAD_MEDIA = "POST /api/media/upload";
+    public static final String POLL_NOTIFICATIONS = "GET /api/notifications/user/{userId}";
+    public static final String LIST_COMPLAINTS = "GET /api/complaints/user/{userId}";
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final LoadTestOptions options;
+    private final EndpointMetrics metrics;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient httpClient;
+
+    public CivicEyeClient(LoadTestOptions options, EndpointMetrics metrics) {
+        this.options = options;
+        this.metrics = metrics;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newCachedThreadPool(runnable -> {
+                    Thread thread = new Thread(runnable, "loadtest-http");
+                    thread.setDaemon(true);
+                    return thread;
+                }))
+                .build();
+    }
+
+    /**
+     * Register a user; returns its ID, or null on failure
+     */
+    public Long register(String username, String email, String password, long intendedStart) {
+        JsonNode user = send(REGISTER, json(options.userUrl() + "/api/users/register", Map.of(
+                "username", username,
+                "email", email,
+                "password", password,
+                "phoneNumber", "9000000000"), null), intendedStart, 201);
+        return user == null ? null : user.path("id").asLong();
+    }
+
+    /**
+     * Log in; returns the access token to send with later calls, or null on failure
+     */
+    public String login(String email, String password, long intendedStart) {
+        JsonNode login = send(LOGIN, json(options.userUrl() + "/api/users/login",
+                Map.of("email", email, "password", password), null), intendedStart, 200);
+        return login == null ? null : login.path("token").asText(null);
+    }
+
+    /**
+     * Create a complaint; returns its ID (or an open duplicate's), or null on failure
+     */
+    public Long createComplaint(String token, Map<String, Object> complaint, long intendedStart) {
+        JsonNode created = send(CREATE_COMPLAINT, json(options.complaintUrl() + "/api/complaints", complaint, token),
+                intendedStart, 201, 200, 409);
+        if (created == null) {
+            return null;
+        }
+        if (created.has("duplicateCandidates")) {
+            return created.path("duplicateCandidates").path(0).asLong();
+        }
+        return created.path("id").asLong();
+    }
+
+    public boolean uploadMedia(String token, long complaintId, byte[] image, long intendedStart) {
+        String boundary = "loadtest-" + UUID.randomUUID();
+        ByteArrayOutputStream body = new ByteArrayOutputStream(image.length + 512);
+        writePart(body, boundary, "Content-Disposition: form-data; name=\"complaintId\"\r\n\r\n",
+                String.valueOf(complaintId).getBytes(StandardCharsets.UTF_8));
+        writePart(body, boundary, "Content-Disposition: form-data; name=\"file\"; filename=\"photo.jpg\"\r\n"
+                + "Content-Type: image/jpeg\r\n\r\n", image);
+        body.writeBytes(("--" + boundary + "--\r\n").getBytes(StandardCharsets.UTF_8));
+
+        HttpRequest request = request(options.mediaUrl() + "/api/media/upload", token)
+                .header("Content-Type", "multipart/form-data; boundary=" + boundary)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body.toByteArray()))
+                .build();
+        return send(UPLOAD_MEDIA, request, intendedStart, 201) != null;
+    }
+
+    public boolean pollNotifications(String token, long userId, long intendedStart) {
+        return send(POLL_NOTIFICATIONS, get(options.notificationUrl() + "/api/notifications/user/" + userId + "?unreadOnly=true", token),
+                intendedStart, 200) != null;
+    }
+
+    public boolean listComplaints(String token, long userId, long intendedStart) {
+        return send(LIST_COMPLAINTS, get(options.complaintUrl() + "/api/complaints/user/" + userId + "?view=summary", token),
+                intendedStart, 200) != null;
+    }
+
+    /**
+     * Send a request and record its latency; returns the parsed body, or null if the
+     * call failed or answered with an unexpected status
+     */
+    private JsonNode send(String endpoint, HttpRequest request, long intendedStart, int... expectedStatuses) {
+        try {
+            HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            long latency = System.nanoTime() - intendedStart;
+            for (int expected : expectedStatuses) {
+                if (response.statusCode() == expected) {
+                    metrics.recordSuccess(endpoint, latency);
+                    byte[] body = response.body();
+                    return body.length == 0 ? objectMapper.nullNode() : objectMapper.readTree(body);
+                }
+            }
+        } catch (IOException e) {
+            // Connection errors and timeouts count as errors
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        metrics.recordError(endpoint);
+        return null;
+    }
+
+    private HttpRequest json(String url, Object body, String token) {
+        try {
+            return request(url, token)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+                    .build();
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Cannot serialize request body", e);
+        }
+    }
+
+    private HttpRequest get(String url, String token) {
+        return request(url, token).GET().build();
+    }
+
+    /**
+     * Request builder with the timeout and, when logged in, the bearer token
+     */
+    private static HttpRequest.Builder request(String url, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(url)).timeout(REQUEST_TIMEOUT);
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder;
+    }
+
+    private static void writePart(ByteArrayOutputStream body, String boundary, String headers, byte[] content) {
+        body.writeBytes(("--" + boundary + "\r\n" + headers).getBytes(StandardCharsets.UTF_8));
+        body.writeBytes(content);
+        body.writeBytes("\r\n".getBytes(StandardCharsets.UTF_8));
+    }
+}
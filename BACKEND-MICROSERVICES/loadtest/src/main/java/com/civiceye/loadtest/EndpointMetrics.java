@@ -0,0 +1,90 @@
+package com.civiceye.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Endpoint Metrics
+ * Per-endpoint latency histograms (microseconds) and error counts.
+ *
+ * Virtual users record into lock-free HdrHistogram Recorders. The reporter swaps
+ * out interval histograms and, once warm-up is over, adds them to the totals.
+ */
+public class EndpointMetrics {
+
+    // Anything slower than this is clamped; requests time out well before
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(5);
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final Map<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+
+    public void recordSuccess(String endpoint, long latencyNanos) {
+        long micros = Math.min(Math.max(1, TimeUnit.NANOSECONDS.toMicros(latencyNanos)), HIGHEST_TRACKABLE_MICROS);
+        endpoint(endpoint).recorder.recordValue(micros);
+    }
+
+    public void recordError(String endpoint) {
+        endpoint(endpoint).intervalErrors.increment();
+    }
+
+    /**
+     * Take the histograms recorded since the last call, keyed by endpoint name.
+     * When keep is true they are also added to the totals.
+     */
+    public Map<String, Interval> interval(boolean keep) {
+        Map<String, Interval> intervals = new TreeMap<>();
+        endpoints.forEach((name, endpoint) -> {
+            Interval interval = endpoint.interval(keep);
+            if (interval.histogram().getTotalCount() > 0 || interval.errors() > 0) {
+                intervals.put(name, interval);
+            }
+        });
+        return intervals;
+    }
+
+    /**
+     * Totals over every kept interval, keyed by endpoint name
+     */
+    public Map<String, Interval> totals() {
+        Map<String, Interval> totals = new TreeMap<>();
+        endpoints.forEach((name, endpoint) -> {
+            synchronized (endpoint) {
+                totals.put(name, new Interval(endpoint.total.copy(), endpoint.totalErrors));
+            }
+        });
+        return totals;
+    }
+
+    private Endpoint endpoint(String name) {
+        return endpoints.computeIfAbsent(name, ignored -> new Endpoint());
+    }
+
+    public record Interval(Histogram histogram, long errors) {
+    }
+
+    private static final class Endpoint {
+        private final Recorder recorder = new Recorder(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+        private final Histogram total = new Histogram(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+        private final LongAdder intervalErrors = new LongAdder();
+        private long totalErrors;
+        private Histogram recycled;
+
+        synchronized Interval interval(boolean keep) {
+            Histogram histogram = recorder.getIntervalHistogram(recycled);
+            long errors = intervalErrors.sumThenReset();
+            if (keep) {
+                total.add(histogram);
+                totalErrors += errors;
+            }
+            Histogram copy = histogram.copy();
+            recycled = histogram;
+            return new Interval(copy, errors);
+        }
+    }
+}
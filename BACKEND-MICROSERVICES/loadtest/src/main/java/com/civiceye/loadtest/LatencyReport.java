@@ -0,0 +1,103 @@
+package com.civiceye.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Latency Report
+ * Prints per-endpoint throughput and latency percentiles, and writes them to
+ * report.json plus one HdrHistogram percentile distribution (.hgrm) per endpoint
+ */
+public class LatencyReport {
+
+    private static final double MICROS_PER_MILLI = 1000.0;
+    private static final String ROW_FORMAT = "%-40s %9s %7s %9s %9s %9s %9s %9s%n";
+
+    private LatencyReport() {
+    }
+
+    public static void printInterval(PrintStream out, long elapsedSeconds, double intervalSeconds,
+                                     Map<String, EndpointMetrics.Interval> intervals, boolean measuring) {
+        long requests = 0;
+        long errors = 0;
+        long p99 = 0;
+        for (EndpointMetrics.Interval interval : intervals.values()) {
+            requests += interval.histogram().getTotalCount();
+            errors += interval.errors();
+            p99 = Math.max(p99, interval.histogram().getValueAtPercentile(99));
+        }
+        out.printf("[%5d s] %-9s %8.1f req/s, %d errors, worst endpoint p99 %.1f ms%n",
+                elapsedSeconds, measuring ? "measuring" : "warm-up", requests / intervalSeconds, errors,
+                p99 / MICROS_PER_MILLI);
+    }
+
+    public static void printSummary(PrintStream out, Map<String, EndpointMetrics.Interval> totals, double seconds) {
+        out.println();
+        out.printf("Measured %.0f s%n", seconds);
+        out.printf(ROW_FORMAT, "endpoint", "requests", "errors", "req/s", "p50 ms", "p99 ms", "p99.9 ms", "max ms");
+        long requests = 0;
+        long errors = 0;
+        for (Map.Entry<String, EndpointMetrics.Interval> entry : totals.entrySet()) {
+            Histogram histogram = entry.getValue().histogram();
+            requests += histogram.getTotalCount();
+            errors += entry.getValue().errors();
+            out.printf(ROW_FORMAT, entry.getKey(), histogram.getTotalCount(), entry.getValue().errors(),
+                    String.format("%.1f", histogram.getTotalCount() / seconds),
+                    millis(histogram.getValueAtPercentile(50)), millis(histogram.getValueAtPercentile(99)),
+                    millis(histogram.getValueAtPercentile(99.9)), millis(histogram.getMaxValue()));
+        }
+        out.printf(ROW_FORMAT, "total", requests, errors, String.format("%.1f", requests / seconds), "", "", "", "");
+    }
+
+    public static void write(Path reportDir, Map<String, EndpointMetrics.Interval> totals, double seconds,
+                             Map<String, String> options, Instant startedAt) throws IOException {
+        Files.createDirectories(reportDir);
+
+        List<Map<String, Object>> endpoints = new ArrayList<>();
+        for (Map.Entry<String, EndpointMetrics.Interval> entry : totals.entrySet()) {
+            Histogram histogram = entry.getValue().histogram();
+            Map<String, Object> endpoint = new LinkedHashMap<>();
+            endpoint.put("endpoint", entry.getKey());
+            endpoint.put("requests", histogram.getTotalCount());
+            endpoint.put("errors", entry.getValue().errors());
+            endpoint.put("throughputPerSecond", histogram.getTotalCount() / seconds);
+            endpoint.put("p50Ms", histogram.getValueAtPercentile(50) / MICROS_PER_MILLI);
+            endpoint.put("p99Ms", histogram.getValueAtPercentile(99) / MICROS_PER_MILLI);
+            endpoint.put("p999Ms", histogram.getValueAtPercentile(99.9) / MICROS_PER_MILLI);
+            endpoint.put("maxMs", histogram.getMaxValue() / MICROS_PER_MILLI);
+            endpoints.add(endpoint);
+
+            Path hgrm = reportDir.resolve(fileName(entry.getKey()) + ".hgrm");
+            try (PrintStream out = new PrintStream(Files.newOutputStream(hgrm))) {
+                histogram.outputPercentileDistribution(out, MICROS_PER_MILLI);
+            }
+        }
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("startedAt", startedAt.toString());
+        report.put("measuredSeconds", seconds);
+        report.put("options", options);
+        report.put("endpoints", endpoints);
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(reportDir.resolve("report.json").toFile(), report);
+    }
+
+    private static String millis(long micros) {
+        return String.format("%.2f", micros / MICROS_PER_MILLI);
+    }
+
+    private static String fileName(String endpoint) {
+        return endpoint.replaceAll("[^A-Za-z0-9]+", "_").replaceAll("^_|_$", "");
+    }
+}
@@ -0,0 +1,104 @@
+package com.civiceye.loadtest;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Load Test
+ * Entry point of loadtest.jar. Optionally starts the services against local
+ * stand-ins (see ServiceLauncher), runs the virtual users through warm-up and
+ * the measured phase, then reports throughput and latency per endpoint.
+ */
+public class LoadTest {
+
+    public static void main(String[] args) throws Exception {
+        if (args.length == 1 && (args[0].equals("--help") || args[0].equals("-h"))) {
+            System.out.print(LoadTestOptions.usage());
+            return;
+        }
+        LoadTestOptions options;
+        try {
+            options = LoadTestOptions.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.print(LoadTestOptions.usage());
+            System.exit(2);
+            return;
+        }
+
+        ServiceLauncher launcher = new ServiceLauncher(options);
+        Runtime.getRuntime().addShutdownHook(new Thread(launcher::close));
+        try {
+            if (options.launch()) {
+                launcher.start();
+            }
+            run(options);
+        } finally {
+            launcher.close();
+        }
+    }
+
+    private static void run(LoadTestOptions options) throws InterruptedException, IOException {
+        ActionMix mix = ActionMix.parse(options.mix());
+        EndpointMetrics metrics = new EndpointMetrics();
+        CivicEyeClient client = new CivicEyeClient(options, metrics);
+
+        byte[] image = new byte[options.mediaBytes()];
+        new Random(options.seed()).nextBytes(image);
+        String runId = Long.toString(System.currentTimeMillis(), 36);
+
+        System.out.printf("Running %d users for %d s warm-up + %d s measured (%s)%n", options.users(),
+                options.warmupSeconds(), options.durationSeconds(),
+                options.rate() > 0 ? options.rate() + " req/s per user" : "closed loop");
+
+        Instant startedAt = Instant.now();
+        long start = System.nanoTime();
+        long warmupEnd = start + TimeUnit.SECONDS.toNanos(options.warmupSeconds());
+        long end = warmupEnd + TimeUnit.SECONDS.toNanos(options.durationSeconds());
+
+        List<Thread> users = new ArrayList<>(options.users());
+        for (int i = 0; i < options.users(); i++) {
+            VirtualUser user = new VirtualUser(i, runId, client, mix, options, image, () -> System.nanoTime() < end);
+            Thread thread = new Thread(user, "virtual-user-" + i);
+            thread.setDaemon(true);
+            users.add(thread);
+            thread.start();
+        }
+
+        // Report every interval; the interval that crosses the warm-up boundary is discarded
+        boolean measuring = options.warmupSeconds() == 0;
+        long last = start;
+        long intervalNanos = TimeUnit.SECONDS.toNanos(options.reportIntervalSeconds());
+        while (System.nanoTime() < end) {
+            long now = System.nanoTime();
+            long wake = Math.min(end, measuring ? now + intervalNanos : Math.min(warmupEnd, now + intervalNanos));
+            TimeUnit.NANOSECONDS.sleep(wake - now);
+            now = System.nanoTime();
+            boolean keep = measuring;
+            Map<String, EndpointMetrics.Interval> intervals = metrics.interval(keep);
+            LatencyReport.printInterval(System.out, TimeUnit.NANOSECONDS.toSeconds(now - start),
+                    (now - last) / 1e9, intervals, keep);
+            last = now;
+            if (!measuring && now >= warmupEnd) {
+                measuring = true;
+            }
+        }
+
+        for (Thread user : users) {
+            user.join(TimeUnit.SECONDS.toMillis(35));
+        }
+        // Responses that arrived after the last report but were sent in time
+        metrics.interval(true);
+
+        double measuredSeconds = options.durationSeconds();
+        Map<String, EndpointMetrics.Interval> totals = metrics.totals();
+        LatencyReport.printSummary(System.out, totals, measuredSeconds);
+        LatencyReport.write(options.reportDir(), totals, measuredSeconds, options.asMap(), startedAt);
+        System.out.println("Report written to " + options.reportDir().resolve("report.json"));
+    }
+}
@@ -0,0 +1,143 @@
+package com.civiceye.loadtest;
+
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Load Test Options
+ * Command-line options, given as --name=value. Unknown names are rejected.
+ */
+public class LoadTestOptions {
+
+    private static final Map<String, String> DEFAULTS = new LinkedHashMap<>();
+
+    static {
+        DEFAULTS.put("users", "50");                    // concurrent virtual users
+        DEFAULTS.put("duration-seconds", "120");        // measured phase
+        DEFAULTS.put("warmup-seconds", "30");           // run but not reported
+        DEFAULTS.put("rate", "0");                      // requests/s per user; 0 = closed loop
+        DEFAULTS.put("think-ms", "0");                  // pause between requests in closed loop
+        DEFAULTS.put("mix", "register=2,login=5,create=25,upload=15,poll=35,list=18");
+        DEFAULTS.put("media-bytes", "65536");
+        DEFAULTS.put("launch", "true");                 // start the services from their jars
+        DEFAULTS.put("services-dir", "..");             // directory holding the service modules
+        DEFAULTS.put("service-jvm-args", "-Xmx512m");
+        DEFAULTS.put("startup-timeout-seconds", "180");
+        DEFAULTS.put("user-url", "http://localhost:8081");
+        DEFAULTS.put("complaint-url", "http://localhost:8082");
+        DEFAULTS.put("media-url", "http://localhost:8083");
+        DEFAULTS.put("notification-url", "http://localhost:8084");
+        DEFAULTS.put("report-interval-seconds", "10");
+        DEFAULTS.put("report-dir", "target/loadtest");
+        DEFAULTS.put("seed", "42");
+    }
+
+    private final Map<String, String> values = new LinkedHashMap<>(DEFAULTS);
+
+    public static LoadTestOptions parse(String[] args) {
+        LoadTestOptions options = new LoadTestOptions();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (!arg.startsWith("--") || separator < 0) {
+                throw new IllegalArgumentException("Expected --name=value but got: " + arg);
+            }
+            String name = arg.substring(2, separator);
+            if (!DEFAULTS.containsKey(name)) {
+                throw new IllegalArgumentException("Unknown option --" + name + "; known options: " + DEFAULTS.keySet());
+            }
+            options.values.put(name, arg.substring(separator + 1));
+        }
+        return options;
+    }
+
+    public static String usage() {
+        StringBuilder usage = new StringBuilder("Options (--name=value):\n");
+        DEFAULTS.forEach((name, value) -> usage.append(String.format("  --%-26s default: %s%n", name, value)));
+        return usage.toString();
+    }
+
+    public int users() {
+        return positive("users");
+    }
+
+    public int durationSeconds() {
+        return positive("duration-seconds");
+    }
+
+    public int warmupSeconds() {
+        return Integer.parseInt(values.get("warmup-seconds"));
+    }
+
+    public double rate() {
+        return Double.parseDouble(values.get("rate"));
+    }
+
+    public long thinkMillis() {
+        return Long.parseLong(values.get("think-ms"));
+    }
+
+    public String mix() {
+        return values.get("mix");
+    }
+
+    public int mediaBytes() {
+        return positive("media-bytes");
+    }
+
+    public boolean launch() {
+        return Boolean.parseBoolean(values.get("launch"));
+    }
+
+    public Path servicesDir() {
+        return Path.of(values.get("services-dir"));
+    }
+
+    public String serviceJvmArgs() {
+        return values.get("service-jvm-args");
+    }
+
+    public int startupTimeoutSeconds() {
+        return positive("startup-timeout-seconds");
+    }
+
+    public String userUrl() {
+        return values.get("user-url");
+    }
+
+    public String complaintUrl() {
+        return values.get("complaint-url");
+    }
+
+    public String mediaUrl() {
+        return values.get("media-url");
+    }
+
+    public String notificationUrl() {
+        return values.get("notification-url");
+    }
+
+    public int reportIntervalSeconds() {
+        return positive("report-interval-seconds");
+    }
+
+    public Path reportDir() {
+        return Path.of(values.get("report-dir"));
+    }
+
+    public long seed() {
+        return Long.parseLong(values.get("seed"));
+    }
+
+    public Map<String, String> asMap() {
+        return values;
+    }
+
+    private int positive(String name) {
+        int value = Integer.parseInt(values.get(name));
+        if (value < 1) {
+            throw new IllegalArgumentException("--" + name + " must be positive");
+        }
+        return value;
+    }
+}
@@ -0,0 +1,124 @@
+package com.civiceye.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Service Launcher
+ * Starts user-, complaint-, media- and notification-service from their jars with the
+ * loadtest Spring profile (H2 and a static service list, no MySQL or Eureka) and
+ * waits until each reports UP on /actuator/health. Output goes to <report-dir>/<service>.log.
+ */
+public class ServiceLauncher implements AutoCloseable {
+
+    private static final String[] SERVICES = {"user-service", "complaint-service", "media-service", "notification-service"};
+    private static final String VERSION = "1.0.0";
+
+    private final LoadTestOptions options;
+    private final Map<String, Process> processes = new LinkedHashMap<>();
+    private final HttpClient httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(2)).build();
+
+    public ServiceLauncher(LoadTestOptions options) {
+        this.options = options;
+    }
+
+    public void start() throws IOException, InterruptedException {
+        Files.createDirectories(options.reportDir());
+        Map<String, String> healthUrls = Map.of(
+                "user-service", options.userUrl(),
+                "complaint-service", options.complaintUrl(),
+                "media-service", options.mediaUrl(),
+                "notification-service", options.notificationUrl());
+
+        // A fresh access-token secret per run, shared by the four services
+        byte[] secret = new byte[48];
+        new SecureRandom().nextBytes(secret);
+        String tokenSecret = Base64.getEncoder().encodeToString(secret);
+
+        // Start all at once; they only call each other once requests arrive
+        for (String service : SERVICES) {
+            Path jar = options.servicesDir().resolve(service).resolve("target").resolve(service + "-" + VERSION + ".jar");
+            if (!Files.isRegularFile(jar)) {
+                throw new IllegalStateException("Missing " + jar + "; build it with: cd " + service + " && mvn -Ploadtest package");
+            }
+            List<String> command = new ArrayList<>();
+            command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+            Arrays.stream(options.serviceJvmArgs().trim().split("\\s+")).filter(arg -> !arg.isEmpty()).forEach(command::add);
+            command.add("-jar");
+            command.add(jar.toString());
+            command.add("--spring.profiles.active=loadtest");
+            command.add("--server.port=" + URI.create(healthUrls.get(service)).getPort());
+            command.add("--loadtest.user-port=" + URI.create(options.userUrl()).getPort());
+            command.add("--loadtest.complaint-port=" + URI.create(options.complaintUrl()).getPort());
+            command.add("--loadtest.media-port=" + URI.create(options.mediaUrl()).getPort());
+            command.add("--loadtest.notification-port=" + URI.create(options.notificationUrl()).getPort());
+
+            Path log = options.reportDir().resolve(service + ".log");
+            System.out.println("Starting " + service + " (log: " + log + ")");
+            ProcessBuilder builder = new ProcessBuilder(command)
+                    .redirectErrorStream(true)
+                    .redirectOutput(log.toFile());
+            builder.environment().put("SECURITY_TOKEN_SECRET", tokenSecret);
+            Process process = builder.start();
+            processes.put(service, process);
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(options.startupTimeoutSeconds());
+        for (String service : SERVICES) {
+            awaitHealthy(service, healthUrls.get(service) + "/actuator/health", deadline);
+        }
+    }
+
+    private void awaitHealthy(String service, String healthUrl, long deadline) throws InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(healthUrl)).timeout(Duration.ofSeconds(2)).GET().build();
+        while (System.nanoTime() < deadline) {
+            Process process = processes.get(service);
+            if (!process.isAlive()) {
+                throw new IllegalStateException(service + " exited with code " + process.exitValue()
+                        + "; see " + options.reportDir().resolve(service + ".log"));
+            }
+            try {
+                HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+                if (response.statusCode() == 200 && response.body().contains("\"UP\"")) {
+                    System.out.println(service + " is up");
+                    return;
+                }
+            } catch (IOException e) {
+                // Not listening yet
+            }
+            Thread.sleep(500);
+        }
+        throw new IllegalStateException(service + " did not become healthy within "
+                + options.startupTimeoutSeconds() + " s");
+    }
+
+    @Override
+    public void close() {
+        processes.values().forEach(Process::destroy);
+        for (Map.Entry<String, Process> entry : processes.entrySet()) {
+            try {
+                if (!entry.getValue().waitFor(10, TimeUnit.SECONDS)) {
+                    entry.getValue().destroyForcibly();
+                }
+            } catch (InterruptedException e) {
+                entry.getValue().destroyForcibly();
+                Thread.currentThread().interrupt();
+            }
+        }
+        processes.clear();
+    }
+}
@@ -0,0 +1,165 @@
+package com.civiceye.loadtest;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Virtual User
+ * One simulated citizen: registers and logs in, then keeps picking actions from
+ * the mix until stopped.
+ *
+ * With a rate, requests are scheduled at fixed intervals and latency is measured
+ * from the scheduled time (open model). Without one, the next request follows the
+ * previous response after the think time (closed model).
+ */
+public class VirtualUser implements Runnable {
+
+    private static final String[] CATEGORIES = {
+            "ROAD_DAMAGE", "POTHOLE", "STREETLIGHT", "GARBAGE", "WATER_SUPPLY", "DRAINAGE", "NOISE", "PARKING"
+    };
+    private static final String[] SUBJECTS = {
+            "Pothole", "Broken streetlight", "Overflowing garbage bin", "Water leak", "Blocked drain",
+            "Damaged footpath", "Fallen tree", "Illegal parking", "Loud construction", "Open manhole"
+    };
+    private static final String[] PLACES = {
+            "near the bus stop", "outside the school", "on the main road", "at the market junction",
+            "behind the hospital", "next to the park", "in front of the temple", "by the railway crossing"
+    };
+    private static final int REMEMBERED_COMPLAINTS = 10;
+
+    private final int index;
+    private final String runId;
+    private final CivicEyeClient client;
+    private final ActionMix mix;
+    private final Random random;
+    private final byte[] image;
+    private final long intervalNanos;
+    private final long thinkMillis;
+    private final BooleanSupplier running;
+
+    private final Deque<Long> complaintIds = new ArrayDeque<>();
+    private int accounts;
+    private Long userId;
+    private String email;
+    private String password;
+    private String token;
+
+    public VirtualUser(int index, String runId, CivicEyeClient client, ActionMix mix, LoadTestOptions options,
+                       byte[] image, BooleanSupplier running) {
+        this.index = index;
+        this.runId = runId;
+        this.client = client;
+        this.mix = mix;
+        this.random = new Random(options.seed() * 31 + index);
+        this.image = image;
+        this.intervalNanos = options.rate() > 0 ? (long) (TimeUnit.SECONDS.toNanos(1) / options.rate()) : 0;
+        this.thinkMillis = options.thinkMillis();
+        this.running = running;
+    }
+
+    @Override
+    public void run() {
+        // Spread the first requests so users do not start in lockstep
+        long next = System.nanoTime() + (intervalNanos > 0 ? (long) (random.nextDouble() * intervalNanos) : 0);
+        boolean registered = false;
+        while (running.getAsBoolean() && !Thread.currentThread().isInterrupted()) {
+            long intendedStart;
+            if (intervalNanos > 0) {
+                LockSupport.parkNanos(next - System.nanoTime());
+                intendedStart = next;
+                next += intervalNanos;
+            } else {
+                intendedStart = System.nanoTime();
+            }
+
+            if (!registered) {
+                registered = register(intendedStart);
+                if (!registered && intervalNanos == 0) {
+                    // Services not ready or failing; do not spin
+                    LockSupport.parkNanos(TimeUnit.SECONDS.toNanos(1));
+                }
+            } else {
+                perform(mix.next(random), intendedStart);
+            }
+
+            if (intervalNanos == 0 && thinkMillis > 0) {
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(thinkMillis));
+            }
+        }
+    }
+
+    private void perform(ActionMix.Action action, long intendedStart) {
+        switch (action) {
+            case REGISTER -> register(intendedStart);
+            case LOGIN -> {
+                String newToken = client.login(email, password, intendedStart);
+                if (newToken != null) {
+                    token = newToken;
+                }
+            }
+            case CREATE -> createComplaint(intendedStart);
+            case UPLOAD -> {
+                if (complaintIds.isEmpty()) {
+                    createComplaint(intendedStart);
+                } else {
+                    client.uploadMedia(token, randomComplaintId(), image, intendedStart);
+                }
+            }
+            case POLL -> client.pollNotifications(token, userId, intendedStart);
+            case LIST -> client.listComplaints(token, userId, intendedStart);
+        }
+    }
+
+    /**
+     * Sign up as a new citizen and log in; the login is timed from when the registration answered
+     */
+    private boolean register(long intendedStart) {
+        String username = "lt" + runId + "u" + index + "a" + accounts++;
+        String newEmail = username + "@loadtest.example.com";
+        String newPassword = "secret-" + username;
+        Long newUserId = client.register(username, newEmail, newPassword, intendedStart);
+        if (newUserId == null) {
+            return false;
+        }
+        userId = newUserId;
+        email = newEmail;
+        password = newPassword;
+        complaintIds.clear();
+        token = client.login(email, password, System.nanoTime());
+        return true;
+    }
+
+    private void createComplaint(long intendedStart) {
+        String subject = SUBJECTS[random.nextInt(SUBJECTS.length)];
+        String place = PLACES[random.nextInt(PLACES.length)];
+        Map<String, Object> complaint = new LinkedHashMap<>();
+        complaint.put("userId", userId);
+        complaint.put("title", subject + " " + place);
+        complaint.put("description", subject + " " + place + ", reported by a load-test user. "
+                + "It has been like this for " + (2 + random.nextInt(20)) + " days.");
+        complaint.put("category", CATEGORIES[random.nextInt(CATEGORIES.length)]);
+        // ~20 km square; close enough that some submissions are duplicates
+        complaint.put("latitude", 12.90 + random.nextDouble() * 0.2);
+        complaint.put("longitude", 77.50 + random.nextDouble() * 0.2);
+        complaint.put("address", random.nextInt(400) + ", Ward " + (1 + random.nextInt(198)) + ", Bengaluru");
+
+        Long complaintId = client.createComplaint(token, complaint, intendedStart);
+        if (complaintId != null && complaintId > 0) {
+            complaintIds.addLast(complaintId);
+            if (complaintIds.size() > REMEMBERED_COMPLAINTS) {
+                complaintIds.removeFirst();
+            }
+        }
+    }
+
+    private long randomComplaintId() {
+        int skip = random.nextInt(complaintIds.size());
+        return complaintIds.stream().skip(skip).findFirst().orElseThrow();
+    }
+}
@@ -0,0 +1,46 @@
+package com.civiceye.media.security;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Access Token
+ * Represents the verified caller of the current request, as signed by User Service at login
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccessToken {
+
+    static final String REQUEST_ATTRIBUTE = AccessToken.class.getName();
+
+    private Long userId;
+    private String username;
+    private String email;
+    private String role;
+    private Instant expiresAt;
+
+    /**
+     * Token verified for the current request; empty outside a request or without a token
+     */
+    public static Optional<AccessToken> current() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable((AccessToken) attributes.getAttribute(REQUEST_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST));
+    }
+
+    /**
+     * Whether the current request carries a verified token for this user
+     */
+    public static boolean isCaller(Long userId) {
+        return userId != null && current().map(token -> userId.equals(token.getUserId())).orElse(false);
+    }
+}
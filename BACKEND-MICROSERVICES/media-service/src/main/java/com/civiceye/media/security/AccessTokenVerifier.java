@@ -0,0 +1,126 @@
+package com.civiceye.media.security;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * Access Token Verifier
+ * Checks the HS256 access tokens issued by User Service, locally and without I/O.
+ *
+ * A token is accepted if its signature matches the shared secret, its issuer is
+ * the configured one and it has not expired (allowing a small clock skew). The
+ * service refuses to start without a secret of its own.
+ */
+@Component
+public class AccessTokenVerifier {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+    // Former committed default; anyone can sign tokens with it
+    private static final String PUBLISHED_SECRET = "civiceye-development-token-secret-change-me";
+
+    private final ObjectMapper objectMapper;
+    private final SecretKeySpec key;
+    private final String issuer;
+    private final long clockSkewSeconds;
+
+    public AccessTokenVerifier(ObjectMapper objectMapper,
+                               @Value("${security.token.secret}") String secret,
+                               @Value("${security.token.issuer:civiceye}") String issuer,
+                               @Value("${security.token.clock-skew-seconds:30}") long clockSkewSeconds) {
+        byte[] secretBytes = secretBytes(secret);
+        this.objectMapper = objectMapper;
+        this.key = new SecretKeySpec(secretBytes, ALGORITHM);
+        this.issuer = issuer;
+        this.clockSkewSeconds = clockSkewSeconds;
+    }
+
+    /**
+     * Verify a token and return its claims; throws IllegalArgumentException if it is not acceptable
+     */
+    public AccessToken verify(String token) {
+        String[] parts = token.split("\\.", -1);
+        if (parts.length != 3) {
+            throw new IllegalArgumentException("Malformed access token");
+        }
+
+        JsonNode claims;
+        try {
+            JsonNode header = objectMapper.readTree(decode(parts[0]));
+            // Only HS256 is issued; never let the token choose a weaker algorithm
+            if (!"HS256".equals(header.path("alg").asText())) {
+                throw new IllegalArgumentException("Unsupported access token algorithm");
+            }
+            if (!MessageDigest.isEqual(sign(parts[0] + "." + parts[1]), decode(parts[2]))) {
+                throw new IllegalArgumentException("Invalid access token signature");
+            }
+            claims = objectMapper.readTree(decode(parts[1]));
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Malformed access token");
+        }
+
+        long userId = claims.path("sub").asLong(0);
+        if (userId <= 0) {
+            throw new IllegalArgumentException("Malformed access token");
+        }
+        if (!issuer.equals(claims.path("iss").asText())) {
+            throw new IllegalArgumentException("Access token from unknown issuer");
+        }
+        long expiresAt = claims.path("exp").asLong(0);
+        if (Instant.now().getEpochSecond() - clockSkewSeconds >= expiresAt) {
+            throw new IllegalArgumentException("Access token expired");
+        }
+        return new AccessToken(userId,
+                claims.path("username").asText(null),
+                claims.path("email").asText(null),
+                claims.path("role").asText(null),
+                Instant.ofEpochSecond(expiresAt));
+    }
+
+    /**
+     * The secret's bytes; refuses to start with a missing, published or short secret
+     */
+    static byte[] secretBytes(String secret) {
+        if (secret == null || secret.isBlank()) {
+            throw new IllegalStateException("security.token.secret is not set; set SECURITY_TOKEN_SECRET");
+        }
+        if (secret.equals(PUBLISHED_SECRET)) {
+            throw new IllegalStateException("security.token.secret is the published development value; "
+                    + "set SECURITY_TOKEN_SECRET to a secret of your own");
+        }
+        byte[] secretBytes = secret.getBytes(StandardCharsets.UTF_8);
+        if (secretBytes.length < 32) {
+            throw new IllegalStateException("security.token.secret must be at least 32 bytes");
+        }
+        return secretBytes;
+    }
+
+    private static byte[] decode(String part) {
+        try {
+            return DECODER.decode(part);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Malformed access token");
+        }
+    }
+
+    private byte[] sign(String signingInput) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac.doFinal(signingInput.getBytes(StandardCharsets.US_ASCII));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 unavailable", e);
+        }
+    }
+}
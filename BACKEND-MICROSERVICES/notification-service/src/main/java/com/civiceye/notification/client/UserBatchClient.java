@@ -0,0 +1,170 @@
+package com.civiceye.notification.client;
+
+import com.civiceye.notification.dto.UserDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * User Batch Client
+ * Coalesces user lookups into calls to User Service's batch endpoint.
+ *
+ * Lookups arriving within the batching window are sent together, and concurrent
+ * lookups of the same ID share one slot. A batch is sent early once it reaches the
+ * maximum size. If the batch call fails, every lookup in it fails with that error.
+ * A caller waits at most timeout-ms for its batch, whatever the HTTP client does.
+ *
+ * Complaint and Notification Service each keep a copy of this class, like the
+ * security classes; change both together.
+ */
+@Component
+@Slf4j
+public class UserBatchClient implements DisposableBean {
+
+    private static final String USER_BATCH_URL = "http://USER-SERVICE/api/internal/users/batch";
+
+    private final RestTemplate restTemplate;
+    private final long windowMs;
+    private final int maxBatchSize;
+    private final long timeoutMs;
+    private final ScheduledExecutorService executor;
+
+    // Lookups waiting for the next batch, guarded by this
+    private Map<Long, CompletableFuture<Optional<UserDTO>>> pending = new HashMap<>();
+
+    public UserBatchClient(RestTemplate restTemplate,
+                           @Value("${notification.user-batch.window-ms:5}") long windowMs,
+                           @Value("${notification.user-batch.max-size:100}") int maxBatchSize,
+                           @Value("${notification.user-batch.threads:4}") int threads,
+                           @Value("${notification.user-batch.timeout-ms:3000}") long timeoutMs) {
+        this.restTemplate = restTemplate;
+        this.windowMs = windowMs;
+        this.maxBatchSize = maxBatchSize;
+        this.timeoutMs = timeoutMs;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = Executors.newScheduledThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "user-batch-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Look up a user in the next batch; completes empty if User Service does not know it
+     */
+    public CompletableFuture<Optional<UserDTO>> lookup(Long userId) {
+        Map<Long, CompletableFuture<Optional<UserDTO>>> full = null;
+        CompletableFuture<Optional<UserDTO>> future;
+        synchronized (this) {
+            future = pending.get(userId);
+            if (future != null) {
+                return future;
+            }
+            future = new CompletableFuture<>();
+            boolean first = pending.isEmpty();
+            pending.put(userId, future);
+            if (pending.size() >= maxBatchSize) {
+                full = pending;
+                pending = new HashMap<>();
+            } else if (first) {
+                executor.schedule(this::flush, windowMs, TimeUnit.MILLISECONDS);
+            }
+        }
+        if (full != null) {
+            Map<Long, CompletableFuture<Optional<UserDTO>>> batch = full;
+            executor.execute(() -> fetch(batch));
+        }
+        return future;
+    }
+
+    /**
+     * Get a user, waiting for its batch
+     */
+    public Optional<UserDTO> getUser(Long userId) {
+        return join(lookup(userId));
+    }
+
+    /**
+     * Get many users, keyed by ID; unknown IDs are absent
+     */
+    public Map<Long, UserDTO> getUsers(Collection<Long> userIds) {
+        Map<Long, CompletableFuture<Optional<UserDTO>>> futures = new LinkedHashMap<>();
+        for (Long userId : userIds) {
+            futures.computeIfAbsent(userId, this::lookup);
+        }
+        Map<Long, UserDTO> users = new LinkedHashMap<>();
+        futures.forEach((userId, future) -> join(future).ifPresent(user -> users.put(userId, user)));
+        return users;
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    private void flush() {
+        Map<Long, CompletableFuture<Optional<UserDTO>>> batch;
+        synchronized (this) {
+            // A batch that filled up early may have taken these lookups already
+            if (pending.isEmpty()) {
+                return;
+            }
+            batch = pending;
+            pending = new HashMap<>();
+        }
+        fetch(batch);
+    }
+
+    private void fetch(Map<Long, CompletableFuture<Optional<UserDTO>>> batch) {
+        List<Long> ids = new ArrayList<>(batch.keySet());
+        log.info("Calling User Service batch lookup for {} users", ids.size());
+        try {
+            Map<Long, UserDTO> users = restTemplate.exchange(USER_BATCH_URL, HttpMethod.POST, new HttpEntity<>(ids),
+                    new ParameterizedTypeReference<Map<Long, UserDTO>>() { }).getBody();
+            batch.forEach((userId, future) ->
+                    future.complete(Optional.ofNullable(users != null ? users.get(userId) : null)));
+        } catch (Exception e) {
+            log.warn("User batch lookup of {} users failed: {}", ids.size(), e.getMessage());
+            batch.values().forEach(future -> future.completeExceptionally(e));
+        }
+    }
+
+    private <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            // Rethrow the remote error as the caller would have seen it from a direct call
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new CompletionException(e.getCause());
+        } catch (TimeoutException e) {
+            throw new ResourceAccessException("User batch lookup timed out after " + timeoutMs + " ms");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ResourceAccessException("Interrupted while waiting for a user batch lookup");
+        }
+    }
+}
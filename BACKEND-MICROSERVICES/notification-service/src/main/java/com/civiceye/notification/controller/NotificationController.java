@@ -1,5 +1,6 @@
 package com.civiceye.notification.controller;
 
+import com.civiceye.notification.dto.NotificationBatchResult;
 import com.civiceye.notification.entity.Notification;
 import com.civiceye.notification.service.NotificationService;
 import lombok.RequiredArgsConstructor;
@@ -34,6 +35,21 @@ public class NotificationController {
         }
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<?> createNotifications(@RequestBody List<Notification> notifications) {
+        try {
+            log.info("Received request to create {} notifications", notifications.size());
+            NotificationBatchResult result = notificationService.createNotifications(notifications);
+            return ResponseEntity.ok(result);
+        } catch (Exception e) {
+            // Nothing was stored; the sender keeps the batch and retries
+            log.error("Error creating notification batch: {}", e.getMessage());
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(error);
+        }
+    }
+
     @GetMapping("/user/{userId}")
     public ResponseEntity<List<Notification>> getNotificationsByUserId(
             @PathVariable Long userId,
@@ -51,6 +67,12 @@ public class NotificationController {
         return ResponseEntity.ok(notifications);
     }
 
+    @GetMapping("/complaint/{complaintId}")
+    public ResponseEntity<List<Notification>> getNotificationsByComplaintId(@PathVariable Long complaintId) {
+        log.info("Fetching notifications for complaint: {}", complaintId);
+        return ResponseEntity.ok(notificationService.getNotificationsByComplaintId(complaintId));
+    }
+
     @PutMapping("/{id}/read")
     public ResponseEntity<?> markAsRead(@PathVariable Long id) {
         try {
@@ -0,0 +1,20 @@
+package com.civiceye.notification.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Notification Batch Result
+ * Outcome of a batch create: how many notifications were stored and the
+ * positions (in request order) of those rejected because the user does not exist
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationBatchResult {
+    private int created;
+    private List<Integer> rejected;
+}
@@ -0,0 +1,20 @@
+package com.civiceye.notification.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * User DTO for inter-service communication
+ * Represents user data from User Service
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserDTO {
+    private Long id;
+    private String username;
+    private String email;
+    private String phoneNumber;
+    private String role;
+}
@@ -9,7 +9,9 @@ import org.hibernate.annotations.CreationTimestamp;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "notifications")
+@Table(name = "notifications", indexes = {
+        @Index(name = "idx_notifications_complaint", columnList = "complaint_id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -10,4 +10,5 @@ import java.util.List;
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
     List<Notification> findByUserId(Long userId);
     List<Notification> findByUserIdAndIsRead(Long userId, Boolean isRead);
+    List<Notification> findByComplaintIdOrderByCreatedAtDesc(Long complaintId);
 }
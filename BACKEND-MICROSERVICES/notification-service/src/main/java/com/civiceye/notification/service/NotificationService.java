@@ -1,5 +1,6 @@
 package com.civiceye.notification.service;
 
+import com.civiceye.notification.dto.NotificationBatchResult;
 import com.civiceye.notification.entity.Notification;
 
 import java.util.List;
@@ -7,9 +8,11 @@ import java.util.Optional;
 
 public interface NotificationService {
     Notification createNotification(Notification notification);
+    NotificationBatchResult createNotifications(List<Notification> notifications);
     Optional<Notification> getNotificationById(Long id);
     List<Notification> getNotificationsByUserId(Long userId);
     List<Notification> getUnreadNotifications(Long userId);
+    List<Notification> getNotificationsByComplaintId(Long complaintId);
     Notification markAsRead(Long id);
     void deleteNotification(Long id);
 }
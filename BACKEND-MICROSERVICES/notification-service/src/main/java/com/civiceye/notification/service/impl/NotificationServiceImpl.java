@@ -1,16 +1,23 @@
 package com.civiceye.notification.service.impl;
 
+import com.civiceye.notification.client.UserBatchClient;
+import com.civiceye.notification.dto.NotificationBatchResult;
+import com.civiceye.notification.dto.UserDTO;
 import com.civiceye.notification.entity.Notification;
 import com.civiceye.notification.repository.NotificationRepository;
+import com.civiceye.notification.security.AccessToken;
 import com.civiceye.notification.service.NotificationService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.client.RestTemplate;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
@@ -19,22 +26,27 @@ import java.util.Optional;
 public class NotificationServiceImpl implements NotificationService {
 
     private final NotificationRepository notificationRepository;
-    private final RestTemplate restTemplate;
-
-    private static final String USER_SERVICE_URL = "http://USER-SERVICE/api/users";
+    private final UserBatchClient userBatchClient;
 
     @Override
     public Notification createNotification(Notification notification) {
         log.info("Creating notification for user ID: {}", notification.getUserId());
 
-        // Validate user exists via RestTemplate
-        try {
-            String url = USER_SERVICE_URL + "/" + notification.getUserId();
-            log.info("Validating user at: {}", url);
-            restTemplate.getForObject(url, Object.class);
-        } catch (Exception e) {
-            log.error("User validation failed: {}", e.getMessage());
-            throw new RuntimeException("User not found with ID: " + notification.getUserId());
+        // Validate user exists: a verified access token for this user proves it locally,
+        // anyone else is checked via User Service, batched with concurrent lookups
+        if (AccessToken.isCaller(notification.getUserId())) {
+            log.info("User {} validated by access token", notification.getUserId());
+        } else {
+            Optional<UserDTO> user;
+            try {
+                user = userBatchClient.getUser(notification.getUserId());
+            } catch (Exception e) {
+                log.error("User validation failed: {}", e.getMessage());
+                user = Optional.empty();
+            }
+            if (user.isEmpty()) {
+                throw new RuntimeException("User not found with ID: " + notification.getUserId());
+            }
         }
 
         Notification savedNotification = notificationRepository.save(notification);
@@ -42,6 +54,39 @@ public class NotificationServiceImpl implements NotificationService {
         return savedNotification;
     }
 
+    @Override
+    public NotificationBatchResult createNotifications(List<Notification> notifications) {
+        log.info("Creating batch of {} notifications", notifications.size());
+
+        // Validate the distinct users in one batch lookup; an unknown user rejects only its own
+        // notifications. Lookup errors propagate so the caller can retry later
+        Set<Long> lookupIds = new HashSet<>();
+        for (Notification notification : notifications) {
+            Long userId = notification.getUserId();
+            if (userId != null && !AccessToken.isCaller(userId)) {
+                lookupIds.add(userId);
+            }
+        }
+        Map<Long, UserDTO> knownUsers = userBatchClient.getUsers(lookupIds);
+
+        List<Notification> accepted = new ArrayList<>(notifications.size());
+        List<Integer> rejected = new ArrayList<>();
+        for (int i = 0; i < notifications.size(); i++) {
+            Notification notification = notifications.get(i);
+            Long userId = notification.getUserId();
+            if (userId != null && (knownUsers.containsKey(userId) || AccessToken.isCaller(userId))) {
+                notification.setId(null);
+                accepted.add(notification);
+            } else {
+                rejected.add(i);
+            }
+        }
+
+        notificationRepository.saveAll(accepted);
+        log.info("Batch created {} notifications, rejected {}", accepted.size(), rejected.size());
+        return new NotificationBatchResult(accepted.size(), rejected);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public Optional<Notification> getNotificationById(Long id) {
@@ -63,6 +108,13 @@ public class NotificationServiceImpl implements NotificationService {
         return notificationRepository.findByUserIdAndIsRead(userId, false);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<Notification> getNotificationsByComplaintId(Long complaintId) {
+        log.info("Fetching notifications for complaint ID: {}", complaintId);
+        return notificationRepository.findByComplaintIdOrderByCreatedAtDesc(complaintId);
+    }
+
     @Override
     public Notification markAsRead(Long id) {
         log.info("Marking notification as read: {}", id);
@@ -0,0 +1,151 @@
+package com.civiceye.user.availability;
+
+import com.civiceye.user.dto.UserSummary;
+import com.civiceye.user.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Predicate;
+
+/**
+ * User Availability Index
+ * Answers "is this username / email taken?" from in-memory Bloom filters, asking
+ * the database only when a filter says "maybe present".
+ *
+ * The filters are built from the users table at startup and rebuilt periodically,
+ * which drops names freed by updates and deletes. Registrations, updates and imports
+ * on this instance are added as they happen; those on other instances show up at the
+ * next rebuild. Keys are lower-cased to match MySQL's case-insensitive collation.
+ * Until the first build finishes every check goes to the database.
+ */
+@Component
+@Slf4j
+public class UserAvailabilityIndex {
+
+    private final UserRepository userRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${user.availability.expected-users:1000000}")
+    private long expectedUsers;
+
+    @Value("${user.availability.false-positive-rate:0.01}")
+    private double falsePositiveRate;
+
+    @Value("${user.availability.page-size:10000}")
+    private int pageSize;
+
+    private volatile Filters current;  // null until the first build completes
+    private volatile Filters building; // filters being rebuilt; also receive new names
+
+    public UserAvailabilityIndex(UserRepository userRepository, MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Whether the username belongs to a user
+     */
+    public boolean isUsernameTaken(String username) {
+        Filters filters = current;
+        return check("username", filters == null || filters.usernames().mightContain(key(username)),
+                username, userRepository::existsByUsername);
+    }
+
+    /**
+     * Whether the email belongs to a user
+     */
+    public boolean isEmailTaken(String email) {
+        Filters filters = current;
+        return check("email", filters == null || filters.emails().mightContain(key(email)),
+                email, userRepository::existsByEmail);
+    }
+
+    /**
+     * Record a username and email that are now taken. Safe to call before the
+     * transaction commits: a name that ends up unused only costs a database check.
+     */
+    public void add(String username, String email) {
+        Filters filters = current;
+        if (filters != null) {
+            filters.add(key(username), key(email));
+        }
+        Filters next = building;
+        if (next != null) {
+            next.add(key(username), key(email));
+        }
+    }
+
+    /**
+     * Rebuild both filters from the users table, reading it in ID order one page at a time
+     */
+    @Scheduled(initialDelayString = "${user.availability.initial-delay-ms:0}",
+               fixedDelayString = "${user.availability.rebuild-interval-ms:3600000}")
+    public void rebuild() {
+        long started = System.currentTimeMillis();
+        try {
+            // Headroom for the users registered before the next rebuild
+            long expected = Math.max(expectedUsers, userRepository.count() * 2);
+            Filters next = new Filters(new BloomFilter(expected, falsePositiveRate),
+                    new BloomFilter(expected, falsePositiveRate));
+            // Published before reading, so names added while the pages are read are not lost
+            building = next;
+
+            long users = 0;
+            long afterId = 0;
+            List<UserSummary> page;
+            do {
+                page = userRepository.findSummaryPage(afterId, PageRequest.ofSize(pageSize));
+                for (UserSummary user : page) {
+                    next.add(key(user.getUsername()), key(user.getEmail()));
+                    afterId = user.getId();
+                }
+                users += page.size();
+            } while (page.size() == pageSize);
+
+            current = next;
+            log.info("Built availability filters for {} users ({} KB each) in {} ms", users,
+                    next.usernames().sizeInBytes() / 1024, System.currentTimeMillis() - started);
+        } catch (RuntimeException e) {
+            log.error("Error building availability filters: {}", e.getMessage());
+        } finally {
+            building = null;
+        }
+    }
+
+    private boolean check(String field, boolean maybePresent, String value, Predicate<String> existsInDatabase) {
+        if (!maybePresent) {
+            count(field, "absent");
+            return false;
+        }
+        boolean taken = existsInDatabase.test(value);
+        count(field, taken ? "present" : "false-positive");
+        return taken;
+    }
+
+    private void count(String field, String result) {
+        Counter.builder("users.availability.checks")
+                .description("Availability checks by answer; absent ones never reach the database")
+                .tag("field", field)
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private static String key(String value) {
+        return value.toLowerCase(Locale.ROOT);
+    }
+
+    private record Filters(BloomFilter usernames, BloomFilter emails) {
+        void add(String username, String email) {
+            usernames.add(username);
+            emails.add(email);
+        }
+    }
+}
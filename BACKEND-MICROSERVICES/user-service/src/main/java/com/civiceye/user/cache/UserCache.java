@@ -0,0 +1,134 @@
+package com.civiceye.user.cache;
+
+import com.civiceye.user.entity.User;
+import com.civiceye.user.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * User Cache
+ * Read-through cache of users by ID, with email and username resolved to IDs.
+ *
+ * Entries are detached copies, and every read returns a fresh copy, so callers may
+ * modify what they get (e.g. clear the password). Unknown keys are not cached, so a
+ * new registration is visible at once. Writes call evict(), which drops the user's
+ * entries after the transaction commits; the TTL bounds anything a concurrent
+ * load put back in the meantime. Other user-service instances are told through
+ * UserCacheInvalidator and evict by ID.
+ */
+@Component
+@Slf4j
+public class UserCache {
+
+    private final UserRepository userRepository;
+    private final LoadingCache<Long, User> byId;
+    private final LoadingCache<String, Long> idByEmail;
+    private final LoadingCache<String, Long> idByUsername;
+
+    public UserCache(UserRepository userRepository,
+                     MeterRegistry meterRegistry,
+                     @Value("${user.cache.maximum-size:100000}") long maximumSize,
+                     @Value("${user.cache.ttl-seconds:600}") long ttlSeconds) {
+        this.userRepository = userRepository;
+        Duration ttl = Duration.ofSeconds(ttlSeconds);
+        this.byId = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build(id -> userRepository.findById(id).map(UserCache::copy).orElse(null));
+        this.idByEmail = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build(email -> remember(userRepository.findByEmail(email)));
+        this.idByUsername = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build(username -> remember(userRepository.findByUsername(username)));
+        CaffeineCacheMetrics.monitor(meterRegistry, byId, "users.by-id");
+        CaffeineCacheMetrics.monitor(meterRegistry, idByEmail, "users.by-email");
+        CaffeineCacheMetrics.monitor(meterRegistry, idByUsername, "users.by-username");
+    }
+
+    /**
+     * Get a user by ID
+     */
+    public Optional<User> getById(Long id) {
+        return Optional.ofNullable(byId.get(id)).map(UserCache::copy);
+    }
+
+    /**
+     * Get a user by email
+     */
+    public Optional<User> getByEmail(String email) {
+        return Optional.ofNullable(idByEmail.get(email)).flatMap(this::getById);
+    }
+
+    /**
+     * Get a user by username
+     */
+    public Optional<User> getByUsername(String username) {
+        return Optional.ofNullable(idByUsername.get(username)).flatMap(this::getById);
+    }
+
+    /**
+     * Drop a user's entries once the current transaction commits; pass the email and
+     * username the user had before the change
+     */
+    public void evict(Long id, String email, String username) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidate(id, email, username);
+                }
+            });
+        } else {
+            invalidate(id, email, username);
+        }
+    }
+
+    /**
+     * Drop a user's entries knowing only its ID, for a change made through another
+     * instance; the email and username keys are found by scanning for the ID
+     */
+    public void evict(Long id) {
+        log.info("Evicting cached user {} changed on another instance", id);
+        byId.invalidate(id);
+        idByEmail.asMap().values().removeIf(id::equals);
+        idByUsername.asMap().values().removeIf(id::equals);
+    }
+
+    private void invalidate(Long id, String email, String username) {
+        log.info("Evicting cached user {}", id);
+        byId.invalidate(id);
+        idByEmail.invalidate(email);
+        idByUsername.invalidate(username);
+    }
+
+    /**
+     * Cache the user found by a secondary key and return its ID
+     */
+    private Long remember(Optional<User> user) {
+        return user.map(found -> {
+            byId.put(found.getId(), copy(found));
+            return found.getId();
+        }).orElse(null);
+    }
+
+    private static User copy(User user) {
+        return new User(user.getId(), user.getUsername(), user.getEmail(), user.getPassword(),
+                user.getPhoneNumber(), user.getRole(), user.getCreatedAt(), user.getUpdatedAt());
+    }
+}
@@ -0,0 +1,99 @@
+package com.civiceye.user.client;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.cloud.client.serviceregistry.Registration;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * User Cache Invalidator
+ * Tells services that cache users to drop an entry after it changed.
+ *
+ * Every registered instance is called directly (not load-balanced), since each
+ * one holds its own cache. That includes the other user-service instances; this
+ * one evicts its own entries when the write commits and is skipped. Calls run
+ * after commit on a background thread and are best effort: a missed call only
+ * leaves the entry until its TTL expires.
+ */
+@Component
+@Slf4j
+public class UserCacheInvalidator implements DisposableBean {
+
+    private static final String INVALIDATION_PATH = "/api/internal/user-cache/";
+
+    private final DiscoveryClient discoveryClient;
+    private final RestTemplate restTemplate;
+    private final List<String> serviceIds;
+    private final String selfInstanceId;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "user-cache-invalidator");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public UserCacheInvalidator(DiscoveryClient discoveryClient,
+                                ObjectProvider<Registration> registration,
+                                RestTemplateBuilder restTemplateBuilder,
+                                @Value("${user.cache-invalidation.service-ids:COMPLAINT-SERVICE,USER-SERVICE}") List<String> serviceIds,
+                                @Value("${user.cache-invalidation.timeout-ms:1000}") long timeoutMs) {
+        this.discoveryClient = discoveryClient;
+        this.serviceIds = serviceIds;
+        // No registration without a service registry (e.g. the loadtest profile); then no instance is skipped
+        Registration self = registration.getIfAvailable();
+        this.selfInstanceId = self == null ? null : self.getInstanceId();
+        this.restTemplate = restTemplateBuilder
+                .setConnectTimeout(Duration.ofMillis(timeoutMs))
+                .setReadTimeout(Duration.ofMillis(timeoutMs))
+                .build();
+    }
+
+    /**
+     * Invalidate a user everywhere once the current transaction commits
+     */
+    public void userChanged(Long userId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    executor.execute(() -> invalidate(userId));
+                }
+            });
+        } else {
+            executor.execute(() -> invalidate(userId));
+        }
+    }
+
+    private void invalidate(Long userId) {
+        for (String serviceId : serviceIds) {
+            for (ServiceInstance instance : discoveryClient.getInstances(serviceId)) {
+                if (selfInstanceId != null && Objects.equals(selfInstanceId, instance.getInstanceId())) {
+                    continue;
+                }
+                try {
+                    restTemplate.delete(instance.getUri() + INVALIDATION_PATH + userId);
+                } catch (Exception e) {
+                    log.warn("Failed to invalidate user {} on {}: {}", userId, instance.getUri(), e.getMessage());
+                }
+            }
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+}
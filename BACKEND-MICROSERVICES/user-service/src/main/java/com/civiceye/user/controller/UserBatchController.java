@@ -0,0 +1,57 @@
+package com.civiceye.user.controller;
+
+import com.civiceye.user.dto.UserSummary;
+import com.civiceye.user.service.UserService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * User Batch Controller
+ * Internal endpoint Complaint and Notification Service call to look up many
+ * users at once. Not routed through the API Gateway.
+ */
+@RestController
+@RequestMapping("/api/internal/users")
+@RequiredArgsConstructor
+@Slf4j
+public class UserBatchController {
+
+    private final UserService userService;
+
+    /**
+     * Get many users by ID
+     * GET /api/internal/users/batch?ids=1,2,3
+     * POST /api/internal/users/batch with body [1, 2, 3]
+     *
+     * Returns an object keyed by user ID, without passwords; unknown IDs are left out.
+     */
+    @GetMapping("/batch")
+    public ResponseEntity<?> getUsersBatch(@RequestParam List<Long> ids) {
+        return usersBatch(ids);
+    }
+
+    @PostMapping("/batch")
+    public ResponseEntity<?> postUsersBatch(@RequestBody List<Long> ids) {
+        return usersBatch(ids);
+    }
+
+    private ResponseEntity<?> usersBatch(List<Long> ids) {
+        try {
+            log.info("Received request to get {} users by ID", ids.size());
+            Map<Long, UserSummary> users = userService.getUserSummaries(ids);
+            return ResponseEntity.ok(users);
+        } catch (IllegalArgumentException e) {
+            log.error("Error fetching users: {}", e.getMessage());
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+        }
+    }
+}
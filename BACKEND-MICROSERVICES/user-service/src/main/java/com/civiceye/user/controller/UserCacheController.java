@@ -0,0 +1,33 @@
+package com.civiceye.user.controller;
+
+import com.civiceye.user.cache.UserCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * User Cache Controller
+ * Internal endpoint the other user-service instances call when a user changes
+ * through them. Not routed through the API Gateway.
+ */
+@RestController
+@RequestMapping("/api/internal/user-cache")
+@RequiredArgsConstructor
+@Slf4j
+public class UserCacheController {
+
+    private final UserCache userCache;
+
+    @DeleteMapping("/{userId}")
+    public ResponseEntity<?> invalidateUser(@PathVariable Long userId) {
+        log.info("Received request to invalidate cached user: {}", userId);
+        userCache.evict(userId);
+        Map<String, String> response = new HashMap<>();
+        response.put("message", "User cache entry invalidated");
+        return ResponseEntity.ok(response);
+    }
+}
@@ -1,17 +1,33 @@
 package com.civiceye.user.controller;
 
+import com.civiceye.user.dto.CursorPage;
+import com.civiceye.user.dto.ImportResult;
 import com.civiceye.user.dto.LoginRequest;
+import com.civiceye.user.dto.UserAvailability;
+import com.civiceye.user.dto.UserFilter;
+import com.civiceye.user.dto.UserSummary;
 import com.civiceye.user.entity.User;
+import com.civiceye.user.exception.DuplicateUserException;
+import com.civiceye.user.security.AccessToken;
+import com.civiceye.user.security.AccessTokenIssuer;
+import com.civiceye.user.service.UserExportService;
+import com.civiceye.user.service.UserImportService;
 import com.civiceye.user.service.UserService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import java.io.InputStream;
+import java.time.LocalDateTime;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 
 /**
@@ -25,6 +41,9 @@ import java.util.Map;
 public class UserController {
 
     private final UserService userService;
+    private final UserImportService userImportService;
+    private final UserExportService userExportService;
+    private final AccessTokenIssuer accessTokenIssuer;
 
     /**
      * Register a new user
@@ -40,6 +59,12 @@ public class UserController {
             registeredUser.setPassword(null);
             
             return ResponseEntity.status(HttpStatus.CREATED).body(registeredUser);
+        } catch (DuplicateUserException e) {
+            log.error("Error registering user: {}", e.getMessage());
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            error.put("field", e.getField());
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
         } catch (Exception e) {
             log.error("Error registering user: {}", e.getMessage());
             Map<String, String> error = new HashMap<>();
@@ -51,6 +76,9 @@ public class UserController {
     /**
      * Login user
      * POST /api/users/login
+     *
+     * Returns a signed access token; send it as "Authorization: Bearer <token>"
+     * so other services can identify the caller without asking User Service.
      */
     @PostMapping("/login")
     public ResponseEntity<?> loginUser(@RequestBody LoginRequest loginRequest) {
@@ -64,6 +92,9 @@ public class UserController {
             Map<String, Object> response = new HashMap<>();
             response.put("message", "Login successful");
             response.put("user", user);
+            response.put("token", accessTokenIssuer.issue(user));
+            response.put("tokenType", "Bearer");
+            response.put("expiresIn", accessTokenIssuer.getTtlSeconds());
             
             return ResponseEntity.ok(response);
         } catch (Exception e) {
@@ -98,23 +129,122 @@ public class UserController {
     }
 
     /**
-     * Get all users
-     * GET /api/users
+     * Check whether a username and/or email can still be registered
+     * GET /api/users/availability?username=alice&email=alice@example.com
+     *
+     * Answered from in-memory Bloom filters; only names that may be taken are looked up.
+     */
+    @GetMapping("/availability")
+    public ResponseEntity<?> checkAvailability(@RequestParam(required = false) String username,
+                                               @RequestParam(required = false) String email) {
+        if ((username == null || username.isBlank()) && (email == null || email.isBlank())) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", "Provide a username, an email or both");
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+        }
+        log.info("Received availability check for username: {}, email: {}", username, email);
+        UserAvailability availability = userService.checkAvailability(
+                username == null || username.isBlank() ? null : username,
+                email == null || email.isBlank() ? null : email);
+        return ResponseEntity.ok(availability);
+    }
+
+    /**
+     * Bulk import users from an NDJSON stream, one user object per line
+     * POST /api/users/import
+     *
+     * Admins only. Rows whose email or username is already taken, or whose role is
+     * not USER or AUTHORITY, are reported with their line number.
+     */
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<?> importUsers(InputStream body) {
+        if (!isAdminCaller()) {
+            return adminRequired();
+        }
+        try {
+            log.info("Received request to import users");
+            ImportResult result = userImportService.importUsers(body);
+            return ResponseEntity.ok(result);
+        } catch (Exception e) {
+            log.error("Error importing users: {}", e.getMessage());
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+        }
+    }
+
+    /**
+     * Get a page of users, newest first; admins only
+     * GET /api/users?role={role}&from={iso}&to={iso}&cursor={cursor}&size={size}
      */
     @GetMapping
-    public ResponseEntity<List<User>> getAllUsers() {
-        log.info("Received request to get all users");
-        List<User> users = userService.getAllUsers();
-        
-        // Don't return passwords
-        users.forEach(user -> user.setPassword(null));
-        
-        return ResponseEntity.ok(users);
+    public ResponseEntity<?> getAllUsers(
+            @RequestParam(required = false) String role,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        if (!isAdminCaller()) {
+            return adminRequired();
+        }
+        try {
+            UserFilter filter = new UserFilter(role, from, to);
+            log.info("Received request to get users matching: {}", filter);
+            CursorPage<UserSummary> page = userService.findUsers(filter, cursor, size);
+            if (page.getNextCursor() != null) {
+                page.setNext(ServletUriComponentsBuilder.fromCurrentRequest()
+                        .replaceQueryParam("cursor", page.getNextCursor())
+                        .toUriString());
+            }
+            return ResponseEntity.ok(page);
+        } catch (IllegalArgumentException e) {
+            log.error("Error fetching users: {}", e.getMessage());
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+        }
+    }
+
+    /**
+     * Stream every user matching the filters as NDJSON, without passwords; admins only
+     * GET /api/users/export?role={role}&from={iso}&to={iso}
+     */
+    @GetMapping("/export")
+    public ResponseEntity<?> exportUsers(
+            @RequestParam(required = false) String role,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        if (!isAdminCaller()) {
+            return adminRequired();
+        }
+        UserFilter filter = new UserFilter(role, from, to);
+        log.info("Received request to export users matching: {}", filter);
+
+        StreamingResponseBody body = output -> userExportService.exportUsers(output, filter);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"users.ndjson\"")
+                .body(body);
+    }
+
+    /**
+     * Whether the request carries a verified access token with the ADMIN role
+     */
+    private static boolean isAdminCaller() {
+        return AccessToken.current().map(token -> "ADMIN".equals(token.getRole())).orElse(false);
+    }
+
+    private static ResponseEntity<?> adminRequired() {
+        Map<String, String> error = new HashMap<>();
+        error.put("error", "Admin access token required");
+        return ResponseEntity.status(HttpStatus.FORBIDDEN).body(error);
     }
 
     /**
      * Update user
      * PUT /api/users/{id}
+     *
+     * The role is left alone; admins change it through PUT /api/users/{id}/role.
      */
     @PutMapping("/{id}")
     public ResponseEntity<?> updateUser(@PathVariable Long id, @RequestBody User user) {
@@ -126,6 +256,12 @@ public class UserController {
             updatedUser.setPassword(null);
             
             return ResponseEntity.ok(updatedUser);
+        } catch (DuplicateUserException e) {
+            log.error("Error updating user: {}", e.getMessage());
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            error.put("field", e.getField());
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
         } catch (Exception e) {
             log.error("Error updating user: {}", e.getMessage());
             Map<String, String> error = new HashMap<>();
@@ -134,6 +270,31 @@ public class UserController {
         }
     }
 
+    /**
+     * Change a user's role; admins only
+     * PUT /api/users/{id}/role with body {"role": "AUTHORITY"}
+     */
+    @PutMapping("/{id}/role")
+    public ResponseEntity<?> updateUserRole(@PathVariable Long id, @RequestBody Map<String, String> roleUpdate) {
+        if (!isAdminCaller()) {
+            return adminRequired();
+        }
+        try {
+            log.info("Received request to change role of user {} to {}", id, roleUpdate.get("role"));
+            User updatedUser = userService.updateUserRole(id, roleUpdate.get("role"));
+
+            // Don't return password
+            updatedUser.setPassword(null);
+
+            return ResponseEntity.ok(updatedUser);
+        } catch (Exception e) {
+            log.error("Error changing user role: {}", e.getMessage());
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+        }
+    }
+
     /**
      * Delete user
      * DELETE /api/users/{id}
@@ -0,0 +1,21 @@
+package com.civiceye.user.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Cursor Page DTO
+ * One page of a keyset-paginated listing with an opaque cursor to the next page
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPage<T> {
+    private List<T> items;
+    private int size;
+    private String nextCursor; // null on the last page
+    private String next;       // absolute link to the next page, filled in by the controller
+}
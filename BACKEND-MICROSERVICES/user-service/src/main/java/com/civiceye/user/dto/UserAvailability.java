@@ -0,0 +1,19 @@
+package com.civiceye.user.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * User Availability DTO
+ * Whether a username and email are still free; fields not asked about are null
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserAvailability {
+    private String username;
+    private Boolean usernameAvailable;
+    private String email;
+    private Boolean emailAvailable;
+}
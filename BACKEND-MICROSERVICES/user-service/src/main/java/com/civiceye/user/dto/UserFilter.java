@@ -0,0 +1,21 @@
+package com.civiceye.user.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * User Filter DTO
+ * Optional criteria for listing users; null fields do not filter.
+ * The createdAt range is [from, to).
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserFilter {
+    private String role;
+    private LocalDateTime from;
+    private LocalDateTime to;
+}
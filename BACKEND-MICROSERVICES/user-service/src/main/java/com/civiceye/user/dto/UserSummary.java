@@ -0,0 +1,23 @@
+package com.civiceye.user.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * User Summary DTO
+ * Public fields of a user for other services and listings; never carries the password
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserSummary {
+    private Long id;
+    private String username;
+    private String email;
+    private String phoneNumber;
+    private String role;
+    private LocalDateTime createdAt;
+}
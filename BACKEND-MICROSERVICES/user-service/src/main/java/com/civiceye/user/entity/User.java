@@ -17,24 +17,35 @@ import java.time.LocalDateTime;
  * Represents a user in the Civic Eye system
  */
 @Entity
-@Table(name = "users")
+@Table(name = "users", uniqueConstraints = {
+        // Registration relies on these instead of checking first; DuplicateUserException maps them back
+        @UniqueConstraint(name = User.EMAIL_CONSTRAINT, columnNames = "email"),
+        @UniqueConstraint(name = User.USERNAME_CONSTRAINT, columnNames = "username")
+}, indexes = {
+        // Keyset pagination of the admin listing on (created_at, id), optionally by role
+        @Index(name = "idx_users_created", columnList = "created_at, id"),
+        @Index(name = "idx_users_role_created", columnList = "role, created_at, id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class User {
 
+    public static final String EMAIL_CONSTRAINT = "uk_users_email";
+    public static final String USERNAME_CONSTRAINT = "uk_users_username";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
     @NotBlank(message = "Username is required")
     @Size(min = 3, max = 50, message = "Username must be between 3 and 50 characters")
-    @Column(unique = true, nullable = false)
+    @Column(nullable = false)
     private String username;
 
     @NotBlank(message = "Email is required")
     @Email(message = "Email should be valid")
-    @Column(unique = true, nullable = false)
+    @Column(nullable = false)
     private String email;
 
     @NotBlank(message = "Password is required")
@@ -0,0 +1,46 @@
+package com.civiceye.user.exception;
+
+import com.civiceye.user.entity.User;
+import lombok.Getter;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.Locale;
+
+/**
+ * Thrown when a user's email or username is already taken
+ */
+@Getter
+public class DuplicateUserException extends RuntimeException {
+
+    private final String field; // "email" or "username"
+
+    public DuplicateUserException(String field, String value) {
+        super(("email".equals(field) ? "Email" : "Username") + " already exists: " + value);
+        this.field = field;
+    }
+
+    /**
+     * Map a unique constraint violation raised while inserting user back to the field it hit.
+     * Constraints are matched by name; unnamed ones from older schemas by the duplicate value
+     * MySQL quotes in its message.
+     */
+    public static DuplicateUserException of(DataIntegrityViolationException e, User user) {
+        Throwable cause = NestedExceptionUtils.getMostSpecificCause(e);
+        String message = cause.getMessage() != null ? cause.getMessage() : "";
+        String lowerCase = message.toLowerCase(Locale.ROOT);
+        if (lowerCase.contains(User.EMAIL_CONSTRAINT)) {
+            return new DuplicateUserException("email", user.getEmail());
+        }
+        if (lowerCase.contains(User.USERNAME_CONSTRAINT)) {
+            return new DuplicateUserException("username", user.getUsername());
+        }
+        if (message.contains("'" + user.getEmail() + "'")) {
+            return new DuplicateUserException("email", user.getEmail());
+        }
+        if (message.contains("'" + user.getUsername() + "'")) {
+            return new DuplicateUserException("username", user.getUsername());
+        }
+        throw e;
+    }
+}
@@ -1,9 +1,15 @@
 package com.civiceye.user.repository;
 
+import com.civiceye.user.dto.UserSummary;
 import com.civiceye.user.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -11,7 +17,7 @@ import java.util.Optional;
  * Data access layer for User entity
  */
 @Repository
-public interface UserRepository extends JpaRepository<User, Long> {
+public interface UserRepository extends JpaRepository<User, Long>, UserRepositoryCustom {
 
     /**
      * Find user by email
@@ -32,4 +38,26 @@ public interface UserRepository extends JpaRepository<User, Long> {
      * Check if username exists
      */
     boolean existsByUsername(String username);
+
+    /**
+     * Find summaries of the users with the given IDs in one query, without reading passwords
+     */
+    @Query("SELECT new com.civiceye.user.dto.UserSummary(u.id, u.username, u.email, u.phoneNumber, u.role, u.createdAt) " +
+           "FROM User u WHERE u.id IN :ids")
+    List<UserSummary> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Find the next page of user summaries in ID order, after the given ID
+     */
+    @Query("SELECT new com.civiceye.user.dto.UserSummary(u.id, u.username, u.email, u.phoneNumber, u.role, u.createdAt) " +
+           "FROM User u WHERE u.id > :afterId ORDER BY u.id")
+    List<UserSummary> findSummaryPage(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * Find summaries of the users holding any of the given emails or usernames in one query
+     */
+    @Query("SELECT new com.civiceye.user.dto.UserSummary(u.id, u.username, u.email, u.phoneNumber, u.role, u.createdAt) " +
+           "FROM User u WHERE u.email IN :emails OR u.username IN :usernames")
+    List<UserSummary> findSummariesByEmailInOrUsernameIn(@Param("emails") Collection<String> emails,
+                                                         @Param("usernames") Collection<String> usernames);
 }
@@ -0,0 +1,19 @@
+package com.civiceye.user.repository;
+
+import com.civiceye.user.dto.UserFilter;
+import com.civiceye.user.dto.UserSummary;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * User Repository fragment for queries built at runtime
+ */
+public interface UserRepositoryCustom {
+
+    /**
+     * Find a page of user summaries matching every non-null criterion of the filter,
+     * strictly after the (createdAt, id) position, newest first. Never reads the password.
+     */
+    List<UserSummary> findSummaryPageMatching(UserFilter filter, LocalDateTime createdAt, Long id, int limit);
+}
@@ -0,0 +1,67 @@
+package com.civiceye.user.repository;
+
+import com.civiceye.user.dto.UserFilter;
+import com.civiceye.user.dto.UserSummary;
+import com.civiceye.user.entity.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Criteria implementation of UserRepositoryCustom.
+ * Only the given criteria end up in the WHERE clause, so MySQL can pick the
+ * composite index matching the combination (see User's @Table indexes).
+ */
+public class UserRepositoryCustomImpl implements UserRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<UserSummary> findSummaryPageMatching(UserFilter filter, LocalDateTime createdAt, Long id, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<UserSummary> query = cb.createQuery(UserSummary.class);
+        Root<User> user = query.from(User.class);
+        query.select(cb.construct(UserSummary.class,
+                user.get("id"),
+                user.get("username"),
+                user.get("email"),
+                user.get("phoneNumber"),
+                user.get("role"),
+                user.get("createdAt")));
+
+        Path<LocalDateTime> createdAtPath = user.get("createdAt");
+        Path<Long> idPath = user.get("id");
+
+        List<Predicate> predicates = new ArrayList<>();
+        if (filter.getRole() != null) {
+            predicates.add(cb.equal(user.get("role"), filter.getRole()));
+        }
+        if (filter.getFrom() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(createdAtPath, filter.getFrom()));
+        }
+        if (filter.getTo() != null) {
+            predicates.add(cb.lessThan(createdAtPath, filter.getTo()));
+        }
+
+        // Keyset position
+        predicates.add(cb.or(
+                cb.lessThan(createdAtPath, createdAt),
+                cb.and(cb.equal(createdAtPath, createdAt), cb.lessThan(idPath, id))));
+
+        query.where(predicates.toArray(Predicate[]::new))
+                .orderBy(cb.desc(createdAtPath), cb.desc(idPath));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+}
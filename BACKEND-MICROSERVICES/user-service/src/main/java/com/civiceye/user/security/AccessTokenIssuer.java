@@ -0,0 +1,92 @@
+package com.civiceye.user.security;
+
+import com.civiceye.user.entity.User;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Access Token Issuer
+ * Signs the access tokens handed out at login.
+ *
+ * Tokens are compact JWTs (HS256) carrying the user's ID as subject plus username,
+ * email and role. The other services check them with the same secret instead of
+ * calling User Service, so a token stays valid until it expires even if the user
+ * is deleted in the meantime; keep the lifetime short.
+ */
+@Component
+@Slf4j
+public class AccessTokenIssuer {
+
+    private static final String HEADER = "{\"alg\":\"HS256\",\"typ\":\"JWT\"}";
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    private final ObjectMapper objectMapper;
+    private final SecretKeySpec key;
+    private final String issuer;
+    private final long ttlSeconds;
+
+    public AccessTokenIssuer(ObjectMapper objectMapper,
+                             @Value("${security.token.secret}") String secret,
+                             @Value("${security.token.issuer:civiceye}") String issuer,
+                             @Value("${security.token.ttl-seconds:3600}") long ttlSeconds) {
+        byte[] secretBytes = AccessTokenVerifier.secretBytes(secret);
+        this.objectMapper = objectMapper;
+        this.key = new SecretKeySpec(secretBytes, ALGORITHM);
+        this.issuer = issuer;
+        this.ttlSeconds = ttlSeconds;
+    }
+
+    /**
+     * Issue a signed token for a user
+     */
+    public String issue(User user) {
+        log.info("Issuing access token for user ID: {}", user.getId());
+        long now = Instant.now().getEpochSecond();
+        Map<String, Object> claims = new LinkedHashMap<>();
+        claims.put("iss", issuer);
+        claims.put("sub", String.valueOf(user.getId()));
+        claims.put("username", user.getUsername());
+        claims.put("email", user.getEmail());
+        claims.put("role", user.getRole());
+        claims.put("iat", now);
+        claims.put("exp", now + ttlSeconds);
+
+        try {
+            String signingInput = ENCODER.encodeToString(HEADER.getBytes(StandardCharsets.UTF_8)) + "."
+                    + ENCODER.encodeToString(objectMapper.writeValueAsBytes(claims));
+            return signingInput + "." + ENCODER.encodeToString(sign(signingInput));
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed to issue access token: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Lifetime of issued tokens
+     */
+    public long getTtlSeconds() {
+        return ttlSeconds;
+    }
+
+    private byte[] sign(String signingInput) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac.doFinal(signingInput.getBytes(StandardCharsets.US_ASCII));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 unavailable", e);
+        }
+    }
+}
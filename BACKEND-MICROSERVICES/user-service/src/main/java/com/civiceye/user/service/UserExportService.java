@@ -0,0 +1,19 @@
+package com.civiceye.user.service;
+
+import com.civiceye.user.dto.UserFilter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * User Export Service Interface
+ * Bulk dump of user summaries for admin reports
+ */
+public interface UserExportService {
+
+    /**
+     * Write every user matching the filter to the stream as NDJSON, newest first, without
+     * passwords and without holding the result in memory. Returns the number of users written.
+     */
+    long exportUsers(OutputStream output, UserFilter filter) throws IOException;
+}
@@ -0,0 +1,19 @@
+package com.civiceye.user.service;
+
+import com.civiceye.user.dto.ImportResult;
+
+import java.io.InputStream;
+
+/**
+ * User Import Service Interface
+ * Bulk loading of users migrated from other systems
+ */
+public interface UserImportService {
+
+    /**
+     * Read users from an NDJSON stream and insert them in JDBC batches.
+     * Invalid rows, rows asking for the ADMIN role and rows whose email or username is
+     * taken are reported and skipped.
+     */
+    ImportResult importUsers(InputStream input);
+}
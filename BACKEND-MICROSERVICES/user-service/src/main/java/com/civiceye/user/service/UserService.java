@@ -1,18 +1,27 @@
 package com.civiceye.user.service;
 
+import com.civiceye.user.dto.CursorPage;
+import com.civiceye.user.dto.UserAvailability;
+import com.civiceye.user.dto.UserFilter;
+import com.civiceye.user.dto.UserSummary;
 import com.civiceye.user.entity.User;
 
-import java.util.List;
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
 
 /**
  * User Service Interface
  * Business logic for user operations
+ *
+ * Listings are cursor-paginated: pass null as cursor for the first page and the
+ * returned nextCursor for the following ones. Size is capped by configuration.
  */
 public interface UserService {
 
     /**
-     * Register a new user
+     * Register a new user.
+     * Throws DuplicateUserException if the email or username is taken.
      */
     User registerUser(User user);
 
@@ -27,15 +36,33 @@ public interface UserService {
     Optional<User> getUserById(Long id);
 
     /**
-     * Get all users
+     * Get summaries of many users by ID in one query, keyed by ID; unknown IDs are absent.
+     * Throws IllegalArgumentException above the configured batch size.
      */
-    List<User> getAllUsers();
+    Map<Long, UserSummary> getUserSummaries(Collection<Long> ids);
 
     /**
-     * Update user
+     * Check whether a username and an email are still free; either may be null
+     */
+    UserAvailability checkAvailability(String username, String email);
+
+    /**
+     * Get a page of user summaries matching every criterion set in the filter, newest first
+     */
+    CursorPage<UserSummary> findUsers(UserFilter filter, String cursor, Integer size);
+
+    /**
+     * Update user; the role is only changed through updateUserRole.
+     * Throws DuplicateUserException if the new email or username is taken.
      */
     User updateUser(Long id, User user);
 
+    /**
+     * Change a user's role to USER, ADMIN or AUTHORITY.
+     * Throws IllegalArgumentException for any other role.
+     */
+    User updateUserRole(Long id, String role);
+
     /**
      * Delete user
      */
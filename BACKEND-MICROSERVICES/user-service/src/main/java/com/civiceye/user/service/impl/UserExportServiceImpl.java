@@ -0,0 +1,64 @@
+package com.civiceye.user.service.impl;
+
+import com.civiceye.user.dto.UserCursor;
+import com.civiceye.user.dto.UserFilter;
+import com.civiceye.user.dto.UserSummary;
+import com.civiceye.user.repository.UserRepository;
+import com.civiceye.user.service.UserExportService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * User Export Service Implementation
+ * Walks the listing query in keyset pages and writes each page as soon as it
+ * arrives, so heap use is bounded by the page size. Each page is its own short
+ * query: no transaction or connection is held while a slow client reads.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class UserExportServiceImpl implements UserExportService {
+
+    private final UserRepository userRepository;
+    private final ObjectMapper objectMapper;
+
+    @Value("${user.export.page-size:1000}")
+    private int pageSize;
+
+    @Override
+    public long exportUsers(OutputStream output, UserFilter filter) throws IOException {
+        log.info("Exporting users matching: {}", filter);
+        long started = System.currentTimeMillis();
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+        UserCursor position = UserCursor.FIRST;
+        long written = 0;
+        List<UserSummary> page;
+        do {
+            page = userRepository.findSummaryPageMatching(filter, position.getCreatedAt(), position.getId(), pageSize);
+            for (UserSummary user : page) {
+                writer.write(objectMapper.writeValueAsString(user));
+                writer.write('\n');
+            }
+            written += page.size();
+            if (!page.isEmpty()) {
+                position = UserCursor.of(page.get(page.size() - 1));
+            }
+        } while (page.size() == pageSize);
+        writer.flush();
+
+        log.info("Exported {} users in {} ms", written, System.currentTimeMillis() - started);
+        return written;
+    }
+}
@@ -0,0 +1,241 @@
+package com.civiceye.user.service.impl;
+
+import com.civiceye.user.availability.UserAvailabilityIndex;
+import com.civiceye.user.dto.ImportResult;
+import com.civiceye.user.dto.UserSummary;
+import com.civiceye.user.entity.User;
+import com.civiceye.user.exception.DuplicateUserException;
+import com.civiceye.user.repository.UserRepository;
+import com.civiceye.user.service.UserImportService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * User Import Service Implementation
+ * Streams the payload line by line and inserts valid rows with JDBC batch
+ * inserts, one transaction per chunk, so memory stays bounded by the chunk
+ * size. Taken emails and usernames are found with one query per chunk and
+ * reported per row; emails and usernames are compared case-insensitively,
+ * like MySQL's default collation.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class UserImportServiceImpl implements UserImportService {
+
+    // Batched into multi-row INSERTs by rewriteBatchedStatements=true on the datasource URL
+    private static final String INSERT_SQL =
+            "INSERT INTO users (username, email, password, phone_number, role, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private static final List<String> IMPORTABLE_ROLES = List.of("USER", "AUTHORITY");
+
+    private final UserRepository userRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final UserAvailabilityIndex userAvailabilityIndex;
+
+    @Value("${user.import.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${user.import.max-reported-errors:1000}")
+    private int maxReportedErrors;
+
+    @Override
+    public ImportResult importUsers(InputStream input) {
+        log.info("Importing users from NDJSON stream");
+        long started = System.currentTimeMillis();
+
+        ImportResult result = new ImportResult();
+        List<Row> chunk = new ArrayList<>(chunkSize);
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            long lineNumber = 0;
+            String line;
+
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+
+                result.setReceived(result.getReceived() + 1);
+                try {
+                    chunk.add(new Row(lineNumber, parseRow(line)));
+                } catch (IllegalArgumentException e) {
+                    reject(result, lineNumber, e.getMessage());
+                }
+
+                if (chunk.size() >= chunkSize) {
+                    importChunk(chunk, result);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                importChunk(chunk, result);
+            }
+        } catch (IOException e) {
+            log.error("Error reading import stream: {}", e.getMessage());
+            throw new RuntimeException("Failed to read import: " + e.getMessage());
+        }
+
+        log.info("Imported {} of {} users ({} failed) in {} ms", result.getImported(), result.getReceived(),
+                result.getFailed(), System.currentTimeMillis() - started);
+        return result;
+    }
+
+    /**
+     * Helper method to turn one line into a validated, not yet persisted user
+     */
+    private User parseRow(String line) {
+        User user;
+        try {
+            user = objectMapper.readValue(line, User.class);
+        } catch (IOException | RuntimeException e) {
+            throw new IllegalArgumentException("Unreadable row: " + e.getMessage());
+        }
+
+        user.setId(null);
+        if (user.getRole() == null) {
+            user.setRole("USER");
+        } else if (!IMPORTABLE_ROLES.contains(user.getRole())) {
+            // ADMIN is only granted one user at a time, through PUT /api/users/{id}/role
+            throw new IllegalArgumentException("role: must be one of " + IMPORTABLE_ROLES);
+        }
+
+        Set<ConstraintViolation<User>> violations = validator.validate(user);
+        if (!violations.isEmpty()) {
+            throw new IllegalArgumentException(violations.stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining("; ")));
+        }
+        return user;
+    }
+
+    /**
+     * Helper method to drop the chunk's duplicates and insert the rest in one batch
+     */
+    private void importChunk(List<Row> chunk, ImportResult result) {
+        Set<String> emails = new HashSet<>();
+        Set<String> usernames = new HashSet<>();
+        for (Row row : chunk) {
+            emails.add(row.user().getEmail());
+            usernames.add(row.user().getUsername());
+        }
+
+        // Taken by users already stored, including earlier chunks of this import
+        Set<String> takenEmails = new HashSet<>();
+        Set<String> takenUsernames = new HashSet<>();
+        for (UserSummary existing : userRepository.findSummariesByEmailInOrUsernameIn(emails, usernames)) {
+            takenEmails.add(key(existing.getEmail()));
+            takenUsernames.add(key(existing.getUsername()));
+        }
+
+        List<Row> valid = new ArrayList<>(chunk.size());
+        for (Row row : chunk) {
+            User user = row.user();
+            // Accepted rows are added too, so repeats within the chunk lose to the first occurrence
+            if (takenEmails.contains(key(user.getEmail()))) {
+                reject(result, row.line(), new DuplicateUserException("email", user.getEmail()).getMessage());
+            } else if (takenUsernames.contains(key(user.getUsername()))) {
+                reject(result, row.line(), new DuplicateUserException("username", user.getUsername()).getMessage());
+            } else {
+                takenEmails.add(key(user.getEmail()));
+                takenUsernames.add(key(user.getUsername()));
+                valid.add(row);
+            }
+        }
+        if (valid.isEmpty()) {
+            return;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    jdbcTemplate.batchUpdate(INSERT_SQL, valid, valid.size(),
+                            (ps, row) -> bind(ps, row.user(), now)));
+            result.setImported(result.getImported() + valid.size());
+            valid.forEach(row -> userAvailabilityIndex.add(row.user().getUsername(), row.user().getEmail()));
+        } catch (DataIntegrityViolationException e) {
+            // Someone registered one of these users since the check; retry row by row to find it
+            log.warn("Import chunk hit a constraint, inserting {} rows one by one: {}", valid.size(), e.getMessage());
+            for (Row row : valid) {
+                insertOne(row, now, result);
+            }
+        } catch (RuntimeException e) {
+            log.error("Error inserting import chunk: {}", e.getMessage());
+            for (Row row : valid) {
+                reject(result, row.line(), "Batch insert failed: " + e.getMessage());
+            }
+        }
+    }
+
+    private void insertOne(Row row, Timestamp now, ImportResult result) {
+        try {
+            jdbcTemplate.update(INSERT_SQL, ps -> bind(ps, row.user(), now));
+            result.setImported(result.getImported() + 1);
+            userAvailabilityIndex.add(row.user().getUsername(), row.user().getEmail());
+        } catch (DataIntegrityViolationException e) {
+            String error;
+            try {
+                error = DuplicateUserException.of(e, row.user()).getMessage();
+            } catch (DataIntegrityViolationException notDuplicate) {
+                error = "Insert failed: " + notDuplicate.getMostSpecificCause().getMessage();
+            }
+            reject(result, row.line(), error);
+        } catch (RuntimeException e) {
+            reject(result, row.line(), "Insert failed: " + e.getMessage());
+        }
+    }
+
+    private static void bind(PreparedStatement ps, User user, Timestamp now) throws SQLException {
+        ps.setString(1, user.getUsername());
+        ps.setString(2, user.getEmail());
+        ps.setString(3, user.getPassword());
+        ps.setString(4, user.getPhoneNumber());
+        ps.setString(5, user.getRole());
+        ps.setTimestamp(6, now);
+        ps.setTimestamp(7, now);
+    }
+
+    private static String key(String value) {
+        return value.toLowerCase(Locale.ROOT);
+    }
+
+    private void reject(ImportResult result, long line, String error) {
+        result.setFailed(result.getFailed() + 1);
+        if (result.getErrors().size() < maxReportedErrors) {
+            result.getErrors().add(new ImportResult.RowError(line, error));
+        }
+    }
+
+    private record Row(long line, User user) {
+    }
+}
@@ -1,15 +1,34 @@
 package com.civiceye.user.service.impl;
 
+import com.civiceye.user.availability.UserAvailabilityIndex;
+import com.civiceye.user.cache.UserCache;
+import com.civiceye.user.client.UserCacheInvalidator;
+import com.civiceye.user.dto.CursorPage;
+import com.civiceye.user.dto.UserAvailability;
+import com.civiceye.user.dto.UserCursor;
+import com.civiceye.user.dto.UserFilter;
+import com.civiceye.user.dto.UserSummary;
 import com.civiceye.user.entity.User;
+import com.civiceye.user.exception.DuplicateUserException;
 import com.civiceye.user.repository.UserRepository;
 import com.civiceye.user.service.UserService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * User Service Implementation
@@ -21,27 +40,44 @@ import java.util.Optional;
 @Transactional
 public class UserServiceImpl implements UserService {
 
+    private static final List<String> ROLES = List.of("USER", "ADMIN", "AUTHORITY");
+
     private final UserRepository userRepository;
+    private final UserCacheInvalidator userCacheInvalidator;
+    private final UserCache userCache;
+    private final UserAvailabilityIndex userAvailabilityIndex;
+
+    @Value("${user.batch.max-ids:500}")
+    private int maxBatchIds;
+
+    @Value("${user.pagination.default-size:20}")
+    private int defaultPageSize;
+
+    @Value("${user.pagination.max-size:100}")
+    private int maxPageSize;
 
     @Override
     public User registerUser(User user) {
         log.info("Registering new user: {}", user.getEmail());
 
-        // Check if email already exists
-        if (userRepository.existsByEmail(user.getEmail())) {
-            throw new RuntimeException("Email already exists: " + user.getEmail());
-        }
-
-        // Check if username already exists
-        if (userRepository.existsByUsername(user.getUsername())) {
-            throw new RuntimeException("Username already exists: " + user.getUsername());
-        }
+        // Self-service accounts are plain users: roles are granted by an admin through updateUserRole
+        // (PUT /api/users/{id}/role), and an ID in the body must not turn the insert into an
+        // overwrite of another account
+        user.setId(null);
+        user.setRole("USER");
 
         // In production, encrypt password using BCrypt
         // For now, storing as plain text (NOT RECOMMENDED for production)
         // user.setPassword(passwordEncoder.encode(user.getPassword()));
 
-        User savedUser = userRepository.save(user);
+        // Uniqueness of email and username is left to the constraints: one INSERT, no check-then-act race
+        User savedUser;
+        try {
+            savedUser = userRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException e) {
+            throw DuplicateUserException.of(e, user);
+        }
+        userAvailabilityIndex.add(savedUser.getUsername(), savedUser.getEmail());
         log.info("User registered successfully with ID: {}", savedUser.getId());
         return savedUser;
     }
@@ -63,18 +99,62 @@ public class UserServiceImpl implements UserService {
         return user;
     }
 
+    // Cached lookups run outside a transaction, so a hit never borrows a connection
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Optional<User> getUserById(Long id) {
         log.info("Fetching user by ID: {}", id);
-        return userRepository.findById(id);
+        return userCache.getById(id);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Long, UserSummary> getUserSummaries(Collection<Long> ids) {
+        Set<Long> distinctIds = new LinkedHashSet<>(ids);
+        distinctIds.remove(null);
+        log.info("Fetching {} users by ID", distinctIds.size());
+        if (distinctIds.size() > maxBatchIds) {
+            throw new IllegalArgumentException("At most " + maxBatchIds + " user IDs per batch");
+        }
+        if (distinctIds.isEmpty()) {
+            return Map.of();
+        }
+        return userRepository.findSummariesByIdIn(distinctIds).stream()
+                .collect(Collectors.toMap(UserSummary::getId, Function.identity()));
+    }
+
+    // Most answers come from the in-memory filters, so no connection is held up front
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public UserAvailability checkAvailability(String username, String email) {
+        log.info("Checking availability of username: {}, email: {}", username, email);
+        UserAvailability availability = new UserAvailability();
+        if (username != null) {
+            availability.setUsername(username);
+            availability.setUsernameAvailable(!userAvailabilityIndex.isUsernameTaken(username));
+        }
+        if (email != null) {
+            availability.setEmail(email);
+            availability.setEmailAvailable(!userAvailabilityIndex.isEmailTaken(email));
+        }
+        return availability;
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<User> getAllUsers() {
-        log.info("Fetching all users");
-        return userRepository.findAll();
+    public CursorPage<UserSummary> findUsers(UserFilter filter, String cursor, Integer size) {
+        log.info("Fetching users matching: {}", filter);
+        UserCursor position = UserCursor.decode(cursor);
+        int pageSize = resolvePageSize(size);
+
+        // One row more than requested tells whether a next page exists
+        List<UserSummary> rows = userRepository.findSummaryPageMatching(
+                filter, position.getCreatedAt(), position.getId(), pageSize + 1);
+
+        boolean hasMore = rows.size() > pageSize;
+        List<UserSummary> items = hasMore ? new ArrayList<>(rows.subList(0, pageSize)) : rows;
+        String nextCursor = hasMore ? UserCursor.of(items.get(items.size() - 1)).encode() : null;
+        return new CursorPage<>(items, items.size(), nextCursor, null);
     }
 
     @Override
@@ -83,6 +163,7 @@ public class UserServiceImpl implements UserService {
 
         User existingUser = userRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("User not found with ID: " + id));
+        userCache.evict(id, existingUser.getEmail(), existingUser.getUsername());
 
         // Update fields
         if (user.getUsername() != null) {
@@ -94,38 +175,71 @@ public class UserServiceImpl implements UserService {
         if (user.getPhoneNumber() != null) {
             existingUser.setPhoneNumber(user.getPhoneNumber());
         }
-        if (user.getRole() != null) {
-            existingUser.setRole(user.getRole());
-        }
 
-        User updatedUser = userRepository.save(existingUser);
+        User updatedUser;
+        try {
+            updatedUser = userRepository.saveAndFlush(existingUser);
+        } catch (DataIntegrityViolationException e) {
+            throw DuplicateUserException.of(e, existingUser);
+        }
+        userAvailabilityIndex.add(updatedUser.getUsername(), updatedUser.getEmail());
+        userCacheInvalidator.userChanged(id);
         log.info("User updated successfully: {}", updatedUser.getId());
         return updatedUser;
     }
 
+    @Override
+    public User updateUserRole(Long id, String role) {
+        log.info("Changing role of user {} to {}", id, role);
+        if (!ROLES.contains(role)) {
+            throw new IllegalArgumentException("Role must be one of " + ROLES);
+        }
+
+        User existingUser = userRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("User not found with ID: " + id));
+        userCache.evict(id, existingUser.getEmail(), existingUser.getUsername());
+        existingUser.setRole(role);
+
+        User updatedUser = userRepository.saveAndFlush(existingUser);
+        userCacheInvalidator.userChanged(id);
+        log.info("Role of user {} changed to {}", id, role);
+        return updatedUser;
+    }
+
     @Override
     public void deleteUser(Long id) {
         log.info("Deleting user with ID: {}", id);
 
-        if (!userRepository.existsById(id)) {
-            throw new RuntimeException("User not found with ID: " + id);
-        }
+        User existingUser = userRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("User not found with ID: " + id));
 
-        userRepository.deleteById(id);
+        userRepository.delete(existingUser);
+        userCache.evict(id, existingUser.getEmail(), existingUser.getUsername());
+        userCacheInvalidator.userChanged(id);
         log.info("User deleted successfully: {}", id);
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Optional<User> getUserByEmail(String email) {
         log.info("Fetching user by email: {}", email);
-        return userRepository.findByEmail(email);
+        return userCache.getByEmail(email);
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Optional<User> getUserByUsername(String username) {
         log.info("Fetching user by username: {}", username);
-        return userRepository.findByUsername(username);
+        return userCache.getByUsername(username);
+    }
+
+    private int resolvePageSize(Integer size) {
+        if (size == null) {
+            return defaultPageSize;
+        }
+        if (size < 1) {
+            throw new IllegalArgumentException("Page size must be positive");
+        }
+        return Math.min(size, maxPageSize);
     }
 }
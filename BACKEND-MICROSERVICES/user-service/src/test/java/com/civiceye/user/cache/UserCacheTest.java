@@ -0,0 +1,63 @@
+package com.civiceye.user.cache;
+
+import com.civiceye.user.entity.User;
+import com.civiceye.user.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class UserCacheTest {
+
+    // The users table as another instance leaves it
+    private final Map<Long, User> users = new ConcurrentHashMap<>();
+    private final UserCache cache = new UserCache(repository(), new SimpleMeterRegistry(), 1000, 600);
+
+    @Test
+    void evictByIdDropsEveryKeyOfAUserChangedElsewhere() {
+        users.put(1L, user(1L, "alice", "alice@example.com"));
+        assertEquals(1L, cache.getByUsername("alice").orElseThrow().getId());
+        assertEquals(1L, cache.getByEmail("alice@example.com").orElseThrow().getId());
+
+        users.put(1L, user(1L, "alicia", "alicia@example.com"));
+        cache.evict(1L);
+
+        assertTrue(cache.getByUsername("alice").isEmpty());
+        assertTrue(cache.getByEmail("alice@example.com").isEmpty());
+        assertEquals("alicia", cache.getById(1L).orElseThrow().getUsername());
+    }
+
+    @Test
+    void evictByIdLeavesOtherUsersCached() {
+        users.put(1L, user(1L, "alice", "alice@example.com"));
+        users.put(2L, user(2L, "bob", "bob@example.com"));
+        cache.getByUsername("alice");
+        cache.getByUsername("bob");
+
+        users.remove(2L);
+        cache.evict(1L);
+
+        // Still served from the cache, so the removal is not seen
+        assertEquals(2L, cache.getByUsername("bob").orElseThrow().getId());
+    }
+
+    private UserRepository repository() {
+        return (UserRepository) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{UserRepository.class}, (proxy, method, args) -> switch (method.getName()) {
+                    case "findById" -> Optional.ofNullable(users.get((Long) args[0]));
+                    case "findByEmail" -> users.values().stream().filter(u -> u.getEmail().equals(args[0])).findFirst();
+                    case "findByUsername" -> users.values().stream().filter(u -> u.getUsername().equals(args[0])).findFirst();
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    private static User user(Long id, String username, String email) {
+        return new User(id, username, email, "secret", null, "USER", null, null);
+    }
+}
@@ -1,6 +1,16 @@
 // API Base URL - points to API Gateway
 const API_BASE_URL = 'http://localhost:8080/api';
 
+// Bearer token of the logged-in user, saved with the user in localStorage
+const authHeaders = (): Record<string, string> => {
+  try {
+    const token = JSON.parse(localStorage.getItem('civicEyeUser') || '{}').token;
+    return token ? { Authorization: `Bearer ${token}` } : {};
+  } catch {
+    return {};
+  }
+};
+
 // User API
 export const userApi = {
   register: async (data: {
@@ -32,6 +42,18 @@ export const userApi = {
       const error = await response.json();
       throw new Error(error.message || 'Login failed');
     }
+    // Keep the access token with the user so later calls can send it
+    const { user, token } = await response.json();
+    return { ...user, token };
+  },
+
+  // Live "already taken?" feedback for the registration form; pass either field or both
+  checkAvailability: async (params: { username?: string; email?: string }) => {
+    const query = new URLSearchParams();
+    if (params.username) query.set('username', params.username);
+    if (params.email) query.set('email', params.email);
+    const response = await fetch(`${API_BASE_URL}/users/availability?${query}`);
+    if (!response.ok) throw new Error('Failed to check availability');
     return response.json();
   },
 
@@ -55,22 +77,45 @@ export const complaintApi = {
   }) => {
     const response = await fetch(`${API_BASE_URL}/complaints`, {
       method: 'POST',
-      headers: { 'Content-Type': 'application/json' },
+      headers: { 'Content-Type': 'application/json', ...authHeaders() },
       body: JSON.stringify(data),
     });
+    if (response.status === 409) {
+      const conflict = await response.json();
+      throw new Error(`A similar complaint is already open (#${conflict.duplicateCandidates.join(', #')})`);
+    }
     if (!response.ok) throw new Error('Failed to create complaint');
     return response.json();
   },
 
-  getByUser: async (userId: number) => {
-    const response = await fetch(`${API_BASE_URL}/complaints/user/${userId}`);
-    if (!response.ok) throw new Error('Failed to fetch complaints');
-    return response.json();
+  // List endpoints are cursor-paginated; a user's own complaints are read to the last page
+  getByUser: async (userId: number, size = 100) => {
+    const items: any[] = [];
+    let cursor: string | null = null;
+    do {
+      const query = new URLSearchParams({ size: String(size) });
+      if (cursor) query.set('cursor', cursor);
+      const response = await fetch(`${API_BASE_URL}/complaints/user/${userId}?${query}`);
+      if (!response.ok) throw new Error('Failed to fetch complaints');
+      const page = await response.json();
+      items.push(...page.items);
+      cursor = page.nextCursor;
+    } while (cursor);
+    return items;
   },
 
-  getAll: async () => {
-    const response = await fetch(`${API_BASE_URL}/complaints`);
+  // First page only: the whole table is too large to load at once
+  getAll: async (size = 50) => {
+    const response = await fetch(`${API_BASE_URL}/complaints?size=${size}`);
     if (!response.ok) throw new Error('Failed to fetch complaints');
+    const page = await response.json();
+    return page.items;
+  },
+
+  // Complaint with its user, media and notifications; parts that were too slow are named in `unavailable`
+  getDetail: async (id: number) => {
+    const response = await fetch(`${API_BASE_URL}/complaints/${id}/detail`);
+    if (!response.ok) throw new Error('Failed to fetch complaint');
     return response.json();
   },
 
@@ -94,6 +139,7 @@ export const mediaApi = {
 
     const response = await fetch(`${API_BASE_URL}/media/upload`, {
       method: 'POST',
+      headers: authHeaders(),
       body: formData,
     });
     if (!response.ok) throw new Error('Failed to upload image');